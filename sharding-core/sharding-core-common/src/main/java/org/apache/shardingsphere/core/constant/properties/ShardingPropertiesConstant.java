@@ -75,11 +75,44 @@ public enum ShardingPropertiesConstant {
      */
     EXECUTOR_SIZE("executor.size", String.valueOf(0), int.class),
     
+    /**
+     * Enable or Disable to execute with virtual threads.
+     * 
+     * <p>
+     * Execute engine and Sharding-Proxy command execute engine start a new virtual thread for each task instead of using thread pools,
+     * so {@code executor.size} and {@code acceptor.size} no longer bound concurrency of executing and accepting commands.
+     * Only works on JDKs which support virtual threads, thread pools are still used on other JDKs.
+     * Default: false
+     * </p>
+     */
+    EXECUTOR_VIRTUAL_THREAD_ENABLED("executor.virtual.thread.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
     /**
      * Max opened connection size for each query.
      */
     MAX_CONNECTIONS_SIZE_PER_QUERY("max.connections.size.per.query", String.valueOf(1), int.class),
     
+    /**
+     * Max group size held in memory when merging group by results.
+     * 
+     * <p>
+     * Group by results are merged in memory if group by and order by items are different.
+     * Query fails if more groups than this size are merged, instead of running out of memory.
+     * Default: 0, which means unbounded.
+     * </p>
+     */
+    MAX_GROUP_BY_MEMORY_ROWS("max.group.by.memory.rows", String.valueOf(0), int.class),
+    
+    /**
+     * Max size of SQL parse results cached per database type.
+     * 
+     * <p>
+     * Least recently used parse results are evicted if exceeded, and are also collectable under memory pressure.
+     * Default: 65535
+     * </p>
+     */
+    SQL_PARSE_CACHE_SIZE("sql.parse.cache.size", String.valueOf(65535), long.class),
+    
     /**
      * When encrypt data, query with cipher column or not.
      * 
@@ -125,7 +158,36 @@ public enum ShardingPropertiesConstant {
     
     PROXY_BACKEND_CONNECTION_TIMEOUT_SECONDS("proxy.backend.connection.timeout.seconds", String.valueOf(60), int.class),
     
-    CHECK_TABLE_METADATA_ENABLED("check.table.metadata.enabled", String.valueOf(Boolean.FALSE), boolean.class);
+    CHECK_TABLE_METADATA_ENABLED("check.table.metadata.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Directory of table meta data snapshots.
+     * 
+     * <p>
+     * Table meta data are served from snapshot on startup and verified against databases in background.
+     * Default: empty, which means snapshot is disabled.
+     * </p>
+     */
+    METADATA_SNAPSHOT_DIRECTORY("metadata.snapshot.directory", "", String.class),
+    
+    /**
+     * Enable or Disable to load table meta data lazily.
+     * 
+     * <p>
+     * Table meta data are loaded on first use instead of on startup.
+     * Default: false
+     * </p>
+     */
+    METADATA_LAZY_LOADING_ENABLED("metadata.lazy.loading.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Max size of table meta data cached when table meta data are loaded lazily, rarely used tables are evicted if exceeded.
+     * 
+     * <p>
+     * Default: 0, which means unbounded.
+     * </p>
+     */
+    METADATA_LAZY_LOADING_MAX_SIZE("metadata.lazy.loading.max.size", String.valueOf(0), long.class);
     
     private final String key;
     
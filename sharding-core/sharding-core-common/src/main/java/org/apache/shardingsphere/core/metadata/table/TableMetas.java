@@ -17,15 +17,27 @@
 
 package org.apache.shardingsphere.core.metadata.table;
 
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import org.apache.shardingsphere.core.exception.ShardingException;
+
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Table metas.
+ * 
+ * <p>
+ * Table meta data are either loaded up front, or loaded lazily on first use and cached with an optional size bound.
+ * </p>
  *
  * @author panjuan
  * @author zhaojun
@@ -36,17 +48,63 @@ public final class TableMetas {
     
     private final Map<String, TableMetaData> tables;
     
+    private final Collection<String> tableNames;
+    
+    private final LoadingCache<String, TableMetaData> lazyTables;
+    
+    private final AtomicLong version = new AtomicLong();
+    
     public TableMetas(final Map<String, TableMetaData> tables) {
         this.tables = new ConcurrentHashMap<>(tables);
+        tableNames = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>(tables.size(), 1));
+        tableNames.addAll(tables.keySet());
+        lazyTables = null;
+    }
+    
+    public TableMetas(final Collection<String> tableNames, final TableMetaDataLoadCallback loadCallback, final long maximumSize) {
+        this.tableNames = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>(tableNames.size(), 1));
+        this.tableNames.addAll(tableNames);
+        lazyTables = createLazyTables(loadCallback, maximumSize);
+        tables = lazyTables.asMap();
+    }
+    
+    private LoadingCache<String, TableMetaData> createLazyTables(final TableMetaDataLoadCallback loadCallback, final long maximumSize) {
+        CacheBuilder<Object, Object> cacheBuilder = CacheBuilder.newBuilder();
+        if (maximumSize > 0) {
+            cacheBuilder.maximumSize(maximumSize);
+        }
+        return cacheBuilder.build(new CacheLoader<String, TableMetaData>() {
+            
+            @Override
+            public TableMetaData load(final String logicTableName) throws Exception {
+                return loadCallback.load(logicTableName);
+            }
+        });
     }
     
     /**
      * Get table meta data by table name.
+     * 
+     * <p>
+     * Table meta data is loaded on first use if table metas are lazy, concurrent loads of same table are merged into one.
+     * </p>
+     * 
      * @param logicTableName logicTableName logic table name
      * @return table mata data
      */
     public TableMetaData get(final String logicTableName) {
-        return tables.get(logicTableName);
+        if (!tableNames.contains(logicTableName)) {
+            return null;
+        }
+        return null == lazyTables ? tables.get(logicTableName) : load(logicTableName);
+    }
+    
+    private TableMetaData load(final String logicTableName) {
+        try {
+            return lazyTables.get(logicTableName);
+        } catch (final ExecutionException | UncheckedExecutionException ex) {
+            throw new ShardingException(String.format("Cannot load table meta data of `%s`", logicTableName), (Exception) ex.getCause());
+        }
     }
     
     /**
@@ -57,6 +115,8 @@ public final class TableMetas {
      */
     public void put(final String logicTableName, final TableMetaData tableMetaData) {
         tables.put(logicTableName, tableMetaData);
+        tableNames.add(logicTableName);
+        version.incrementAndGet();
     }
     
     /**
@@ -65,7 +125,18 @@ public final class TableMetas {
      * @param logicTableName logic table name
      */
     public void remove(final String logicTableName) {
+        tableNames.remove(logicTableName);
         tables.remove(logicTableName);
+        version.incrementAndGet();
+    }
+    
+    /**
+     * Get version of table metas, which is increased on every put or remove.
+     * 
+     * @return version of table metas
+     */
+    public long getVersion() {
+        return version.get();
     }
     
     /**
@@ -75,7 +146,7 @@ public final class TableMetas {
      * @return contains table from table meta data or not
      */
     public boolean containsTable(final String tableName) {
-        return tables.containsKey(tableName);
+        return tableNames.contains(tableName);
     }
     
     /**
@@ -86,7 +157,7 @@ public final class TableMetas {
      * @return contains column from table meta data or not
      */
     public boolean containsColumn(final String tableName, final String column) {
-        return containsTable(tableName) && tables.get(tableName).getColumns().keySet().contains(column.toLowerCase());
+        return containsTable(tableName) && get(tableName).getColumns().keySet().contains(column.toLowerCase());
     }
     
     /**
@@ -96,7 +167,7 @@ public final class TableMetas {
      * @return column names
      */
     public List<String> getAllColumnNames(final String tableName) {
-        return tables.containsKey(tableName) ? new ArrayList<>(tables.get(tableName).getColumns().keySet()) : Collections.<String>emptyList();
+        return containsTable(tableName) ? new ArrayList<>(get(tableName).getColumns().keySet()) : Collections.<String>emptyList();
     }
     
     /**
@@ -105,6 +176,6 @@ public final class TableMetas {
      * @return all table names
      */
     public Collection<String> getAllTableNames() {
-        return tables.keySet();
+        return tableNames;
     }
 }
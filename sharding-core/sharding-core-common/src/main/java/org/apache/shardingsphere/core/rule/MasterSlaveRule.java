@@ -17,10 +17,13 @@
 
 package org.apache.shardingsphere.core.rule;
 
+import com.google.common.base.Optional;
 import lombok.Getter;
 import org.apache.shardingsphere.api.config.masterslave.LoadBalanceStrategyConfiguration;
 import org.apache.shardingsphere.api.config.masterslave.MasterSlaveRuleConfiguration;
 import org.apache.shardingsphere.core.spi.algorithm.masterslave.MasterSlaveLoadBalanceAlgorithmServiceLoader;
+import org.apache.shardingsphere.core.strategy.masterslave.DataSourceLoadStatistics;
+import org.apache.shardingsphere.core.strategy.masterslave.LoadAwareMasterSlaveLoadBalanceAlgorithm;
 import org.apache.shardingsphere.spi.masterslave.MasterSlaveLoadBalanceAlgorithm;
 
 import java.util.Collection;
@@ -76,4 +79,26 @@ public class MasterSlaveRule implements BaseRule {
     public boolean containDataSourceName(final String dataSourceName) {
         return masterDataSourceName.equals(dataSourceName) || slaveDataSourceNames.contains(dataSourceName);
     }
+    
+    /**
+     * Judge whether load-balance algorithm needs load statistics of slave data sources.
+     *
+     * @return load-balance algorithm needs load statistics or not
+     */
+    public boolean isLoadAware() {
+        return loadBalanceAlgorithm instanceof LoadAwareMasterSlaveLoadBalanceAlgorithm;
+    }
+    
+    /**
+     * Find load statistics of slave data source.
+     *
+     * @param dataSourceName data source name
+     * @return load statistics of slave data source, absent if load-balance algorithm does not need statistics
+     */
+    public Optional<DataSourceLoadStatistics> findLoadStatistics(final String dataSourceName) {
+        if (isLoadAware() && slaveDataSourceNames.contains(dataSourceName)) {
+            return Optional.of(((LoadAwareMasterSlaveLoadBalanceAlgorithm) loadBalanceAlgorithm).getStatistics(dataSourceName));
+        }
+        return Optional.absent();
+    }
 }
@@ -22,11 +22,14 @@ import lombok.NoArgsConstructor;
 import lombok.SneakyThrows;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.Map;
 import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * SPI service loader for new instance for every call.
@@ -39,6 +42,8 @@ public final class NewInstanceServiceLoader {
     
     private static final Map<Class, Collection<Class<?>>> SERVICE_MAP = new HashMap<>();
     
+    private static final ConcurrentMap<Class, Object> SHARED_INSTANCES = new ConcurrentHashMap<>();
+    
     /**
      * Register SPI service into map for new instance.
      *
@@ -71,13 +76,52 @@ public final class NewInstanceServiceLoader {
     @SneakyThrows
     @SuppressWarnings("unchecked")
     public static <T> Collection<T> newServiceInstances(final Class<T> service) {
-        Collection<T> result = new LinkedList<>();
-        if (null == SERVICE_MAP.get(service)) {
-            return result;
+        Collection<Class<?>> serviceClasses = SERVICE_MAP.get(service);
+        if (null == serviceClasses) {
+            return Collections.emptyList();
         }
-        for (Class<?> each : SERVICE_MAP.get(service)) {
+        Collection<T> result = new LinkedList<>();
+        for (Class<?> each : serviceClasses) {
             result.add((T) each.newInstance());
         }
         return result;
     }
+    
+    /**
+     * Judge whether service has registered implementations.
+     *
+     * @param service service class
+     * @param <T> type of service
+     * @return has registered implementations or not
+     */
+    public static <T> boolean hasServiceInstances(final Class<T> service) {
+        Collection<Class<?>> serviceClasses = SERVICE_MAP.get(service);
+        return null != serviceClasses && !serviceClasses.isEmpty();
+    }
+    
+    /**
+     * New instance, or shared instance if service has no registered implementations.
+     *
+     * <p>
+     * Instance of type is created by its no-arg constructor, the shared one is created once for each type.
+     * </p>
+     *
+     * @param service service class
+     * @param type type of instance
+     * @param <T> type of instance
+     * @return new or shared instance
+     */
+    @SneakyThrows
+    @SuppressWarnings("unchecked")
+    public static <T> T newOrSharedInstance(final Class<?> service, final Class<T> type) {
+        if (hasServiceInstances(service)) {
+            return type.newInstance();
+        }
+        T result = (T) SHARED_INSTANCES.get(type);
+        if (null == result) {
+            SHARED_INSTANCES.putIfAbsent(type, type.newInstance());
+            result = (T) SHARED_INSTANCES.get(type);
+        }
+        return result;
+    }
 }
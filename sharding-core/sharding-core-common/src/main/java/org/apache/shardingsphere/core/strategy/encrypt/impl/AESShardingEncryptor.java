@@ -19,7 +19,7 @@ package org.apache.shardingsphere.core.strategy.encrypt.impl;
 
 import com.google.common.base.Preconditions;
 import lombok.Getter;
-import lombok.Setter;
+import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import org.apache.commons.codec.binary.Base64;
 import org.apache.commons.codec.binary.StringUtils;
@@ -27,39 +27,50 @@ import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.shardingsphere.spi.encrypt.ShardingEncryptor;
 
 import javax.crypto.Cipher;
-import javax.crypto.NoSuchPaddingException;
 import javax.crypto.spec.SecretKeySpec;
-import java.security.InvalidKeyException;
-import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
 import java.util.Properties;
 
 /**
  * AES sharding encryptor.
+ * 
+ * <p>
+ *     Secret key is derived once for each properties, ciphers are initialized once for each thread.
+ * </p>
  *
  * @author panjuan
  */
-@Getter
-@Setter
 public final class AESShardingEncryptor implements ShardingEncryptor {
     
     private static final String AES_KEY = "aes.key.value";
     
+    @Getter
     private Properties properties = new Properties();
     
+    private volatile AESCiphers ciphers;
+    
     @Override
     public String getType() {
         return "AES";
     }
     
+    @Override
+    public void setProperties(final Properties properties) {
+        this.properties = properties;
+        ciphers = null;
+    }
+    
     @Override
     public void init() {
+        if (properties.containsKey(AES_KEY)) {
+            getCiphers();
+        }
     }
     
     @Override
     @SneakyThrows
     public String encrypt(final Object plaintext) {
-        byte[] result = getCipher(Cipher.ENCRYPT_MODE).doFinal(StringUtils.getBytesUtf8(String.valueOf(plaintext)));
+        byte[] result = getCiphers().encryptCipher.get().doFinal(StringUtils.getBytesUtf8(String.valueOf(plaintext)));
         return Base64.encodeBase64String(result);
     }
     
@@ -69,14 +80,17 @@ public final class AESShardingEncryptor implements ShardingEncryptor {
         if (null == ciphertext) {
             return null;
         }
-        byte[] result = getCipher(Cipher.DECRYPT_MODE).doFinal(Base64.decodeBase64(String.valueOf(ciphertext)));
+        byte[] result = getCiphers().decryptCipher.get().doFinal(Base64.decodeBase64(String.valueOf(ciphertext)));
         return new String(result);
     }
     
-    private Cipher getCipher(final int decryptMode) throws NoSuchPaddingException, NoSuchAlgorithmException, InvalidKeyException {
-        Preconditions.checkArgument(properties.containsKey(AES_KEY), "No available secret key for `%s`.", AESShardingEncryptor.class.getName());
-        Cipher result = Cipher.getInstance(getType());
-        result.init(decryptMode, new SecretKeySpec(createSecretKey(), getType()));
+    private AESCiphers getCiphers() {
+        AESCiphers result = ciphers;
+        if (null == result) {
+            Preconditions.checkArgument(properties.containsKey(AES_KEY), "No available secret key for `%s`.", AESShardingEncryptor.class.getName());
+            result = new AESCiphers(new SecretKeySpec(createSecretKey(), getType()));
+            ciphers = result;
+        }
         return result;
     }
     
@@ -84,4 +98,32 @@ public final class AESShardingEncryptor implements ShardingEncryptor {
         Preconditions.checkArgument(null != properties.get(AES_KEY), String.format("%s can not be null.", AES_KEY));
         return Arrays.copyOf(DigestUtils.sha1(properties.get(AES_KEY).toString()), 16);
     }
+    
+    private static final class AESCiphers {
+        
+        private final ThreadLocal<Cipher> encryptCipher;
+        
+        private final ThreadLocal<Cipher> decryptCipher;
+        
+        AESCiphers(final SecretKeySpec secretKey) {
+            encryptCipher = new CipherThreadLocal(secretKey, Cipher.ENCRYPT_MODE);
+            decryptCipher = new CipherThreadLocal(secretKey, Cipher.DECRYPT_MODE);
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class CipherThreadLocal extends ThreadLocal<Cipher> {
+        
+        private final SecretKeySpec secretKey;
+        
+        private final int mode;
+        
+        @Override
+        @SneakyThrows
+        protected Cipher initialValue() {
+            Cipher result = Cipher.getInstance(secretKey.getAlgorithm());
+            result.init(mode, secretKey);
+            return result;
+        }
+    }
 }
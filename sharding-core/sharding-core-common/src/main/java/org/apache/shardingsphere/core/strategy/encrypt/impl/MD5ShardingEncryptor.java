@@ -19,9 +19,12 @@ package org.apache.shardingsphere.core.strategy.encrypt.impl;
 
 import lombok.Getter;
 import lombok.Setter;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.binary.StringUtils;
 import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.shardingsphere.spi.encrypt.ShardingEncryptor;
 
+import java.security.MessageDigest;
 import java.util.Properties;
 
 /**
@@ -33,6 +36,14 @@ import java.util.Properties;
 @Setter
 public final class MD5ShardingEncryptor implements ShardingEncryptor {
     
+    private static final ThreadLocal<MessageDigest> MD5_DIGEST = new ThreadLocal<MessageDigest>() {
+        
+        @Override
+        protected MessageDigest initialValue() {
+            return DigestUtils.getMd5Digest();
+        }
+    };
+    
     private Properties properties = new Properties();
     
     @Override
@@ -46,7 +57,7 @@ public final class MD5ShardingEncryptor implements ShardingEncryptor {
     
     @Override
     public String encrypt(final Object plaintext) {
-        return DigestUtils.md5Hex(String.valueOf(plaintext));
+        return Hex.encodeHexString(MD5_DIGEST.get().digest(StringUtils.getBytesUtf8(String.valueOf(plaintext))));
     }
     
     @Override
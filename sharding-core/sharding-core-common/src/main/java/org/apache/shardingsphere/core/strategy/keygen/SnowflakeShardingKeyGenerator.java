@@ -21,10 +21,13 @@ import com.google.common.base.Preconditions;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.SneakyThrows;
-import org.apache.shardingsphere.spi.keygen.ShardingKeyGenerator;
+import org.apache.shardingsphere.spi.keygen.BulkShardingKeyGenerator;
 
+import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Snowflake distributed primary key generator.
@@ -48,10 +51,14 @@ import java.util.Properties;
  * Call @{@code SnowflakeShardingKeyGenerator.setMaxTolerateTimeDifferenceMilliseconds} to set max tolerate time difference milliseconds, default value is 0.
  * </p>
  * 
+ * <p>
+ * Last milliseconds, sequence offset and sequence are packed into one atomic state and updated by CAS, so threads never block each other.
+ * </p>
+ * 
  * @author gaohongtao
  * @author panjuan
  */
-public final class SnowflakeShardingKeyGenerator implements ShardingKeyGenerator {
+public final class SnowflakeShardingKeyGenerator implements BulkShardingKeyGenerator {
     
     public static final long EPOCH;
     
@@ -71,6 +78,10 @@ public final class SnowflakeShardingKeyGenerator implements ShardingKeyGenerator
     
     private static final int MAX_TOLERATE_TIME_DIFFERENCE_MILLISECONDS = 10;
     
+    private static final long SEQUENCE_OFFSET_LEFT_SHIFT_BITS = SEQUENCE_BITS;
+    
+    private static final long MILLISECONDS_LEFT_SHIFT_BITS = SEQUENCE_OFFSET_LEFT_SHIFT_BITS + 1;
+    
     @Setter
     private static TimeService timeService = new TimeService();
     
@@ -78,11 +89,7 @@ public final class SnowflakeShardingKeyGenerator implements ShardingKeyGenerator
     @Setter
     private Properties properties = new Properties();
     
-    private byte sequenceOffset;
-    
-    private long sequence;
-    
-    private long lastMilliseconds;
+    private final AtomicLong state = new AtomicLong();
     
     static {
         Calendar calendar = Calendar.getInstance();
@@ -100,25 +107,69 @@ public final class SnowflakeShardingKeyGenerator implements ShardingKeyGenerator
     }
     
     @Override
-    public synchronized Comparable<?> generateKey() {
-        long currentMilliseconds = timeService.getCurrentMillis();
-        if (waitTolerateTimeDifferenceIfNeed(currentMilliseconds)) {
-            currentMilliseconds = timeService.getCurrentMillis();
+    public Comparable<?> generateKey() {
+        long reservedState = reserve(1);
+        return ((getMilliseconds(reservedState) - EPOCH) << TIMESTAMP_LEFT_SHIFT_BITS) | (getWorkerId() << WORKER_ID_LEFT_SHIFT_BITS) | getSequence(reservedState);
+    }
+    
+    /**
+     * Generate keys.
+     * 
+     * <p>
+     * Keys are reserved by contiguous blocks of sequence, one CAS for each millisecond used.
+     * </p>
+     *
+     * @param count count of keys
+     * @return generated keys in ascending order
+     */
+    @Override
+    public List<Comparable<?>> generateKeys(final int count) {
+        List<Comparable<?>> result = new ArrayList<>(count);
+        long workerId = getWorkerId() << WORKER_ID_LEFT_SHIFT_BITS;
+        while (result.size() < count) {
+            long reservedState = reserve(count - result.size());
+            long firstSequence = getSequence(reservedState);
+            long reservedCount = getReservedCount(count - result.size(), firstSequence);
+            long timestamp = (getMilliseconds(reservedState) - EPOCH) << TIMESTAMP_LEFT_SHIFT_BITS;
+            for (long i = 0; i < reservedCount; i++) {
+                result.add(timestamp | workerId | (firstSequence + i));
+            }
         }
-        if (lastMilliseconds == currentMilliseconds) {
-            if (0L == (sequence = (sequence + 1) & SEQUENCE_MASK)) {
-                currentMilliseconds = waitUntilNextTime(currentMilliseconds);
+        return result;
+    }
+    
+    private long reserve(final int count) {
+        while (true) {
+            long currentState = state.get();
+            long lastMilliseconds = getMilliseconds(currentState);
+            long currentMilliseconds = timeService.getCurrentMillis();
+            if (waitTolerateTimeDifferenceIfNeed(lastMilliseconds, currentMilliseconds)) {
+                currentMilliseconds = timeService.getCurrentMillis();
+            }
+            long sequenceOffset = getSequenceOffset(currentState);
+            long firstSequence;
+            if (lastMilliseconds == currentMilliseconds) {
+                firstSequence = (getSequence(currentState) + 1) & SEQUENCE_MASK;
+                if (0L == firstSequence) {
+                    currentMilliseconds = waitUntilNextTime(currentMilliseconds);
+                }
+            } else {
+                sequenceOffset = vibrateSequenceOffset(sequenceOffset);
+                firstSequence = sequenceOffset;
+            }
+            long lastSequence = firstSequence + getReservedCount(count, firstSequence) - 1;
+            if (state.compareAndSet(currentState, pack(currentMilliseconds, sequenceOffset, lastSequence))) {
+                return pack(currentMilliseconds, sequenceOffset, firstSequence);
             }
-        } else {
-            vibrateSequenceOffset();
-            sequence = sequenceOffset;
         }
-        lastMilliseconds = currentMilliseconds;
-        return ((currentMilliseconds - EPOCH) << TIMESTAMP_LEFT_SHIFT_BITS) | (getWorkerId() << WORKER_ID_LEFT_SHIFT_BITS) | sequence;
+    }
+    
+    private long getReservedCount(final int count, final long firstSequence) {
+        return Math.min(count, SEQUENCE_MASK - firstSequence + 1);
     }
     
     @SneakyThrows
-    private boolean waitTolerateTimeDifferenceIfNeed(final long currentMilliseconds) {
+    private boolean waitTolerateTimeDifferenceIfNeed(final long lastMilliseconds, final long currentMilliseconds) {
         if (lastMilliseconds <= currentMilliseconds) {
             return false;
         }
@@ -147,7 +198,23 @@ public final class SnowflakeShardingKeyGenerator implements ShardingKeyGenerator
         return result;
     }
     
-    private void vibrateSequenceOffset() {
-        sequenceOffset = (byte) (~sequenceOffset & 1);
+    private long vibrateSequenceOffset(final long sequenceOffset) {
+        return ~sequenceOffset & 1;
+    }
+    
+    private long pack(final long milliseconds, final long sequenceOffset, final long sequence) {
+        return (milliseconds << MILLISECONDS_LEFT_SHIFT_BITS) | (sequenceOffset << SEQUENCE_OFFSET_LEFT_SHIFT_BITS) | sequence;
+    }
+    
+    private long getMilliseconds(final long state) {
+        return state >>> MILLISECONDS_LEFT_SHIFT_BITS;
+    }
+    
+    private long getSequenceOffset(final long state) {
+        return (state >>> SEQUENCE_OFFSET_LEFT_SHIFT_BITS) & 1;
+    }
+    
+    private long getSequence(final long state) {
+        return state & SEQUENCE_MASK;
     }
 }
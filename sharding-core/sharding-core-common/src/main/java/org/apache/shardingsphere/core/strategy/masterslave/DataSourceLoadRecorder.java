@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.masterslave;
+
+import com.google.common.base.Optional;
+
+/**
+ * Data source load recorder.
+ * 
+ * <p>
+ * Record one request into load statistics of data source, do nothing if load statistics are absent.
+ * </p>
+ */
+public final class DataSourceLoadRecorder {
+    
+    private static final DataSourceLoadRecorder ABSENT_RECORDER = new DataSourceLoadRecorder(null);
+    
+    private final DataSourceLoadStatistics statistics;
+    
+    private long startNanoTime;
+    
+    private DataSourceLoadRecorder(final DataSourceLoadStatistics statistics) {
+        this.statistics = statistics;
+    }
+    
+    /**
+     * Create data source load recorder, or share the one which does nothing if load statistics are absent.
+     *
+     * @param statistics load statistics of data source
+     * @return data source load recorder
+     */
+    public static DataSourceLoadRecorder newInstance(final Optional<DataSourceLoadStatistics> statistics) {
+        return statistics.isPresent() ? new DataSourceLoadRecorder(statistics.get()) : ABSENT_RECORDER;
+    }
+    
+    /**
+     * Record start of request.
+     */
+    public void start() {
+        if (null != statistics) {
+            statistics.start();
+            startNanoTime = System.nanoTime();
+        }
+    }
+    
+    /**
+     * Record success of request.
+     */
+    public void finishSuccess() {
+        if (null != statistics) {
+            statistics.finishSuccess(System.nanoTime() - startNanoTime);
+        }
+    }
+    
+    /**
+     * Record failure of request.
+     */
+    public void finishFailure() {
+        if (null != statistics) {
+            statistics.finishFailure(System.nanoTime() - startNanoTime);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.masterslave;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Data source load statistics.
+ * 
+ * <p>
+ * Track outstanding requests, exponentially weighted moving average of execution latency and error rate of recent windows of a data source.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PACKAGE)
+public final class DataSourceLoadStatistics {
+    
+    private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(10L);
+    
+    private static final int EWMA_WEIGHT_SHIFT = 3;
+    
+    private static final long UNSAMPLED_LATENCY_NANOS = TimeUnit.SECONDS.toNanos(1L);
+    
+    private final AtomicInteger outstandingRequests = new AtomicInteger();
+    
+    private final AtomicLong latencyNanos = new AtomicLong();
+    
+    private final AtomicLong windowStartNanoTime = new AtomicLong(System.nanoTime());
+    
+    private final AtomicInteger windowRequests = new AtomicInteger();
+    
+    private final AtomicInteger windowFailures = new AtomicInteger();
+    
+    private volatile int previousWindowRequests;
+    
+    private volatile int previousWindowFailures;
+    
+    /**
+     * Record start of request.
+     */
+    public void start() {
+        outstandingRequests.incrementAndGet();
+    }
+    
+    /**
+     * Record success of request.
+     *
+     * @param elapsedNanos elapsed nano time of request
+     */
+    public void finishSuccess(final long elapsedNanos) {
+        outstandingRequests.decrementAndGet();
+        updateLatency(elapsedNanos);
+        rollWindow(System.nanoTime());
+        windowRequests.incrementAndGet();
+    }
+    
+    /**
+     * Record failure of request.
+     *
+     * @param elapsedNanos elapsed nano time of request
+     */
+    public void finishFailure(final long elapsedNanos) {
+        outstandingRequests.decrementAndGet();
+        updateLatency(elapsedNanos);
+        rollWindow(System.nanoTime());
+        windowRequests.incrementAndGet();
+        windowFailures.incrementAndGet();
+    }
+    
+    private void updateLatency(final long elapsedNanos) {
+        long current;
+        long next;
+        do {
+            current = latencyNanos.get();
+            next = 0L == current ? Math.max(elapsedNanos, 1L) : current + ((elapsedNanos - current) >> EWMA_WEIGHT_SHIFT);
+        } while (!latencyNanos.compareAndSet(current, Math.max(next, 1L)));
+    }
+    
+    private void rollWindow(final long nanoTime) {
+        long windowStart = windowStartNanoTime.get();
+        if (nanoTime - windowStart < WINDOW_NANOS || !windowStartNanoTime.compareAndSet(windowStart, nanoTime)) {
+            return;
+        }
+        boolean isPreviousWindowAdjacent = nanoTime - windowStart < 2 * WINDOW_NANOS;
+        int requests = windowRequests.getAndSet(0);
+        int failures = windowFailures.getAndSet(0);
+        previousWindowRequests = isPreviousWindowAdjacent ? requests : 0;
+        previousWindowFailures = isPreviousWindowAdjacent ? failures : 0;
+    }
+    
+    /**
+     * Get load score, lower is better.
+     * 
+     * <p>
+     * Score is average latency weighted by outstanding requests.
+     * Idle data source without latency sample has the lowest score to be probed first,
+     * busy data source without latency sample is weighted by a penalty latency until its first request finishes.
+     * </p>
+     *
+     * @return load score
+     */
+    public double getScore() {
+        long latency = latencyNanos.get();
+        int outstanding = outstandingRequests.get();
+        if (0L == latency && outstanding > 0) {
+            latency = UNSAMPLED_LATENCY_NANOS;
+        }
+        return (double) latency * (outstanding + 1);
+    }
+    
+    /**
+     * Get error rate of current and previous windows.
+     *
+     * @param minimumRequests minimum requests to evaluate error rate
+     * @return error rate, 0 if requests are less than minimum requests
+     */
+    public double getErrorRate(final int minimumRequests) {
+        rollWindow(System.nanoTime());
+        int requests = windowRequests.get() + previousWindowRequests;
+        return requests < minimumRequests ? 0D : (double) (windowFailures.get() + previousWindowFailures) / requests;
+    }
+    
+    /**
+     * Get outstanding requests.
+     *
+     * @return outstanding requests
+     */
+    public int getOutstandingRequests() {
+        return outstandingRequests.get();
+    }
+    
+    /**
+     * Get exponentially weighted moving average of latency.
+     *
+     * @return latency in nano time, 0 if no sample
+     */
+    public long getLatencyNanos() {
+        return latencyNanos.get();
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.masterslave;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Latency aware slave database load-balance algorithm.
+ * 
+ * <p>
+ * Pick the better of two random slaves by outstanding requests and latency, slaves whose error rate exceeds threshold are ejected temporarily.
+ * Statistics are owned by the algorithm instance of each master-slave rule and collected by executors through {@code MasterSlaveRule#findLoadStatistics}.
+ * </p>
+ */
+public final class LatencyAwareMasterSlaveLoadBalanceAlgorithm implements LoadAwareMasterSlaveLoadBalanceAlgorithm {
+    
+    private static final String ERROR_RATE_THRESHOLD = "error.rate.threshold";
+    
+    private static final String ERROR_MINIMUM_REQUESTS = "error.minimum.requests";
+    
+    private static final double DEFAULT_ERROR_RATE_THRESHOLD = 0.5D;
+    
+    private static final int DEFAULT_ERROR_MINIMUM_REQUESTS = 10;
+    
+    private final ConcurrentMap<String, DataSourceLoadStatistics> statistics = new ConcurrentHashMap<>();
+    
+    @Getter
+    private Properties properties = new Properties();
+    
+    @Getter
+    private double errorRateThreshold = DEFAULT_ERROR_RATE_THRESHOLD;
+    
+    @Getter
+    private int errorMinimumRequests = DEFAULT_ERROR_MINIMUM_REQUESTS;
+    
+    @Override
+    public String getType() {
+        return "LATENCY_AWARE";
+    }
+    
+    @Override
+    public void setProperties(final Properties properties) {
+        this.properties = properties;
+        errorRateThreshold = Double.parseDouble(properties.getProperty(ERROR_RATE_THRESHOLD, String.valueOf(DEFAULT_ERROR_RATE_THRESHOLD)));
+        errorMinimumRequests = Integer.parseInt(properties.getProperty(ERROR_MINIMUM_REQUESTS, String.valueOf(DEFAULT_ERROR_MINIMUM_REQUESTS)));
+    }
+    
+    @Override
+    public String getDataSource(final String name, final String masterDataSourceName, final List<String> slaveDataSourceNames) {
+        if (1 == slaveDataSourceNames.size()) {
+            return slaveDataSourceNames.get(0);
+        }
+        List<String> candidates = getAvailableDataSourceNames(slaveDataSourceNames);
+        if (1 == candidates.size()) {
+            return candidates.get(0);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int firstIndex = random.nextInt(candidates.size());
+        int secondIndex = random.nextInt(candidates.size() - 1);
+        if (secondIndex >= firstIndex) {
+            secondIndex++;
+        }
+        String first = candidates.get(firstIndex);
+        String second = candidates.get(secondIndex);
+        return getStatistics(first).getScore() <= getStatistics(second).getScore() ? first : second;
+    }
+    
+    @Override
+    public DataSourceLoadStatistics getStatistics(final String dataSourceName) {
+        DataSourceLoadStatistics result = statistics.get(dataSourceName);
+        if (null == result) {
+            statistics.putIfAbsent(dataSourceName, new DataSourceLoadStatistics());
+            result = statistics.get(dataSourceName);
+        }
+        return result;
+    }
+    
+    private List<String> getAvailableDataSourceNames(final List<String> slaveDataSourceNames) {
+        List<String> result = new ArrayList<>(slaveDataSourceNames.size());
+        for (String each : slaveDataSourceNames) {
+            if (getStatistics(each).getErrorRate(errorMinimumRequests) < errorRateThreshold) {
+                result.add(each);
+            }
+        }
+        return result.isEmpty() ? slaveDataSourceNames : result;
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.masterslave;
+
+import org.apache.shardingsphere.spi.masterslave.MasterSlaveLoadBalanceAlgorithm;
+
+/**
+ * Slave database load-balance algorithm which balances by load statistics of slave data sources.
+ * 
+ * <p>
+ * Executors record every request routed to slave data sources into the statistics.
+ * </p>
+ */
+public interface LoadAwareMasterSlaveLoadBalanceAlgorithm extends MasterSlaveLoadBalanceAlgorithm {
+    
+    /**
+     * Get load statistics of data source.
+     *
+     * @param dataSourceName data source name
+     * @return load statistics of data source
+     */
+    DataSourceLoadStatistics getStatistics(String dataSourceName);
+}
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.util;
+
+import com.google.common.base.Optional;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Compiled inline expression.
+ * 
+ * <p>
+ * Evaluate inline expression with only one variable in Java directly, 
+ * such as {@code t_order_${order_id}}, {@code t_order_${order_id % 16}} and {@code ds_${user_id.hashCode() % 4}}.
+ * Result is same as groovy, value which cannot keep groovy semantics is not evaluated.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class CompiledInlineExpression {
+    
+    private final String prefix;
+    
+    private final String variableName;
+    
+    private final boolean hashCode;
+    
+    private final Integer modulo;
+    
+    private final String suffix;
+    
+    /**
+     * Evaluate inline expression.
+     * 
+     * @param variableName variable name
+     * @param value variable value
+     * @return evaluated result, absent if cannot evaluate without groovy
+     */
+    public Optional<String> evaluate(final String variableName, final Object value) {
+        if (!this.variableName.equals(variableName) || null == value) {
+            return Optional.absent();
+        }
+        Optional<String> result = evaluateVariable(value);
+        return result.isPresent() ? Optional.of(prefix + result.get() + suffix) : result;
+    }
+    
+    private Optional<String> evaluateVariable(final Object value) {
+        if (hashCode) {
+            return Optional.of(null == modulo ? String.valueOf(value.hashCode()) : String.valueOf(value.hashCode() % modulo));
+        }
+        if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return Optional.of(null == modulo ? value.toString() : String.valueOf(((Number) value).intValue() % modulo));
+        }
+        if (value instanceof Long) {
+            return Optional.of(null == modulo ? value.toString() : String.valueOf((Long) value % modulo));
+        }
+        if (value instanceof String && null == modulo) {
+            return Optional.of((String) value);
+        }
+        return Optional.absent();
+    }
+}
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.core.util;
 
 import com.google.common.base.Function;
 import com.google.common.base.Joiner;
+import com.google.common.base.Optional;
 import com.google.common.collect.Collections2;
 import com.google.common.collect.Sets;
 import groovy.lang.Closure;
@@ -34,6 +35,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * Inline expression parser.
@@ -50,6 +53,8 @@ public final class InlineExpressionParser {
     
     private static final GroovyShell SHELL = new GroovyShell();
     
+    private static final Pattern COMPILABLE_PATTERN = Pattern.compile("^([\\w.\\-]*)\\$\\{\\s*([a-zA-Z_]\\w*)(\\.hashCode\\(\\))?(?:\\s*%\\s*(0|[1-9]\\d{0,8}))?\\s*}([\\w.\\-]*)$");
+    
     private final String inlineExpression;
     
     /**
@@ -83,6 +88,23 @@ public final class InlineExpressionParser {
         return (Closure) evaluate(Joiner.on("").join("{it -> \"", inlineExpression, "\"}"));
     }
     
+    /**
+     * Compile inline expression.
+     * 
+     * @return compiled inline expression, absent if inline expression is too complex to compile
+     */
+    public Optional<CompiledInlineExpression> compile() {
+        if (null == inlineExpression) {
+            return Optional.absent();
+        }
+        Matcher matcher = COMPILABLE_PATTERN.matcher(handlePlaceHolder(inlineExpression.trim()));
+        if (!matcher.matches() || "it".equals(matcher.group(2))) {
+            return Optional.absent();
+        }
+        Integer modulo = null == matcher.group(4) ? null : Integer.valueOf(matcher.group(4));
+        return Optional.of(new CompiledInlineExpression(matcher.group(1), matcher.group(2), null != matcher.group(3), modulo, matcher.group(5)));
+    }
+    
     private List<Object> evaluate(final List<String> inlineExpressions) {
         List<Object> result = new ArrayList<>(inlineExpressions.size());
         for (String each : inlineExpressions) {
@@ -19,18 +19,27 @@ package org.apache.shardingsphere.core.metadata.table;
 
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Sets;
+import org.apache.shardingsphere.core.exception.ShardingException;
 import org.apache.shardingsphere.core.metadata.column.ColumnMetaData;
 import org.junit.Test;
 
+import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 public final class TableMetasTest {
     
@@ -56,6 +65,16 @@ public final class TableMetasTest {
         assertNull(tableMetas.get("tableMetaData"));
     }
     
+    @Test
+    public void assertGetVersion() {
+        TableMetas tableMetas = new TableMetas(Collections.<String, TableMetaData>emptyMap());
+        assertThat(tableMetas.getVersion(), is(0L));
+        tableMetas.put("tableMetaData", mock(TableMetaData.class));
+        assertThat(tableMetas.getVersion(), is(1L));
+        tableMetas.remove("tableMetaData");
+        assertThat(tableMetas.getVersion(), is(2L));
+    }
+    
     @Test
     public void assertContainsTable() {
         assertTrue(new TableMetas(ImmutableMap.of("tableMetaData", mock(TableMetaData.class))).containsTable("tableMetaData"));
@@ -83,4 +102,57 @@ public final class TableMetasTest {
     public void assertGetAllTableNames() {
         assertThat(new TableMetas(ImmutableMap.of("tableMetaData", mock(TableMetaData.class))).getAllTableNames(), is((Collection<String>) Sets.newHashSet("tableMetaData")));
     }
+    
+    @Test
+    public void assertGetLazily() throws SQLException {
+        TableMetaDataLoadCallback loadCallback = mock(TableMetaDataLoadCallback.class);
+        TableMetaData tableMetaData = mock(TableMetaData.class);
+        when(loadCallback.load("t_order")).thenReturn(tableMetaData);
+        TableMetas tableMetas = new TableMetas(Arrays.asList("t_order", "t_user"), loadCallback, 0L);
+        verify(loadCallback, never()).load(anyString());
+        assertThat(tableMetas.get("t_order"), is(tableMetaData));
+        assertThat(tableMetas.get("t_order"), is(tableMetaData));
+        verify(loadCallback).load("t_order");
+        verify(loadCallback, never()).load("t_user");
+    }
+    
+    @Test
+    public void assertGetLazilyWithUnknownTable() throws SQLException {
+        TableMetaDataLoadCallback loadCallback = mock(TableMetaDataLoadCallback.class);
+        TableMetas tableMetas = new TableMetas(Collections.singletonList("t_order"), loadCallback, 0L);
+        assertNull(tableMetas.get("t_other"));
+        assertFalse(tableMetas.containsTable("t_other"));
+        verify(loadCallback, never()).load(anyString());
+    }
+    
+    @Test
+    public void assertGetLazilyWithMaximumSize() throws SQLException {
+        TableMetaDataLoadCallback loadCallback = mock(TableMetaDataLoadCallback.class);
+        when(loadCallback.load(anyString())).thenReturn(mock(TableMetaData.class));
+        TableMetas tableMetas = new TableMetas(Arrays.asList("t_order", "t_user"), loadCallback, 1L);
+        tableMetas.get("t_order");
+        tableMetas.get("t_user");
+        tableMetas.get("t_order");
+        verify(loadCallback, times(2)).load("t_order");
+        assertThat(tableMetas.getAllTableNames(), is((Collection<String>) Sets.newHashSet("t_order", "t_user")));
+    }
+    
+    @Test(expected = ShardingException.class)
+    public void assertGetLazilyFailure() throws SQLException {
+        TableMetaDataLoadCallback loadCallback = mock(TableMetaDataLoadCallback.class);
+        when(loadCallback.load("t_order")).thenThrow(new SQLException("table not found"));
+        new TableMetas(Collections.singletonList("t_order"), loadCallback, 0L).get("t_order");
+    }
+    
+    @Test
+    public void assertPutAndRemoveLazily() throws SQLException {
+        TableMetaDataLoadCallback loadCallback = mock(TableMetaDataLoadCallback.class);
+        TableMetas tableMetas = new TableMetas(Collections.<String>emptyList(), loadCallback, 0L);
+        TableMetaData tableMetaData = mock(TableMetaData.class);
+        tableMetas.put("t_order", tableMetaData);
+        assertThat(tableMetas.get("t_order"), is(tableMetaData));
+        tableMetas.remove("t_order");
+        assertNull(tableMetas.get("t_order"));
+        verify(loadCallback, never()).load(anyString());
+    }
 }
@@ -17,12 +17,16 @@
 
 package org.apache.shardingsphere.core.rule;
 
+import org.apache.shardingsphere.api.config.masterslave.LoadBalanceStrategyConfiguration;
 import org.apache.shardingsphere.api.config.masterslave.MasterSlaveRuleConfiguration;
 import org.junit.Test;
 
 import java.util.Collections;
+import java.util.Properties;
 
+import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
 public final class MasterSlaveRuleTest {
@@ -44,4 +48,31 @@ public final class MasterSlaveRuleTest {
         MasterSlaveRule actual = new MasterSlaveRule(new MasterSlaveRuleConfiguration("master_slave", "master_ds", Collections.singletonList("slave_ds")));
         assertFalse(actual.containDataSourceName("master_slave"));
     }
+    
+    @Test
+    public void assertFindLoadStatisticsWithLatencyAwareAlgorithm() {
+        MasterSlaveRule actual = new MasterSlaveRule(new MasterSlaveRuleConfiguration(
+                "master_slave", "master_ds", Collections.singletonList("slave_ds"), new LoadBalanceStrategyConfiguration("LATENCY_AWARE", new Properties())));
+        assertTrue(actual.isLoadAware());
+        assertTrue(actual.findLoadStatistics("slave_ds").isPresent());
+        assertThat(actual.findLoadStatistics("slave_ds").get(), is(actual.findLoadStatistics("slave_ds").get()));
+        assertFalse(actual.findLoadStatistics("master_ds").isPresent());
+    }
+    
+    @Test
+    public void assertFindLoadStatisticsWithoutLatencyAwareAlgorithm() {
+        MasterSlaveRule actual = new MasterSlaveRule(new MasterSlaveRuleConfiguration("master_slave", "master_ds", Collections.singletonList("slave_ds")));
+        assertFalse(actual.isLoadAware());
+        assertFalse(actual.findLoadStatistics("slave_ds").isPresent());
+    }
+    
+    @Test
+    public void assertFindLoadStatisticsScopedToRule() {
+        MasterSlaveRuleConfiguration config = new MasterSlaveRuleConfiguration(
+                "master_slave", "master_ds", Collections.singletonList("slave_ds"), new LoadBalanceStrategyConfiguration("LATENCY_AWARE", new Properties()));
+        MasterSlaveRule actual = new MasterSlaveRule(config);
+        actual.findLoadStatistics("slave_ds").get().start();
+        assertThat(actual.findLoadStatistics("slave_ds").get().getOutstandingRequests(), is(1));
+        assertThat(new MasterSlaveRule(config).findLoadStatistics("slave_ds").get().getOutstandingRequests(), is(0));
+    }
 }
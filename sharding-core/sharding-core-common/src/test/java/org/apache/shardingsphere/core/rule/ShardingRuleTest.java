@@ -40,6 +40,7 @@ import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
@@ -121,6 +122,18 @@ public final class ShardingRuleTest {
         assertThat(shardingRule.getTableRule("Default_Table").getLogicTable(), is("default_table"));
     }
     
+    @Test
+    public void assertGetTableRuleWithBroadcastTableTwice() {
+        ShardingRule shardingRule = createMaximumShardingRule();
+        assertThat(shardingRule.getTableRule("Broadcast_Table"), sameInstance(shardingRule.getTableRule("Broadcast_Table")));
+    }
+    
+    @Test
+    public void assertGetTableRuleWithBroadcastTableInDifferentCase() {
+        ShardingRule shardingRule = createMaximumShardingRule();
+        assertThat(shardingRule.getTableRule("Broadcast_Table"), sameInstance(shardingRule.getTableRule("BROADCAST_TABLE")));
+    }
+    
     @Test(expected = ShardingConfigurationException.class)
     public void assertGetTableRuleFailure() {
         createMinimumShardingRule().getTableRule("New_Table");
@@ -20,9 +20,13 @@ package org.apache.shardingsphere.core.spi;
 import org.apache.shardingsphere.core.spi.algorithm.fixture.BaseAlgorithmFixture;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Collection;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
@@ -41,4 +45,22 @@ public final class NewInstanceServiceLoaderTest {
         Collection collection = NewInstanceServiceLoader.newServiceInstances(BaseAlgorithmFixture.class);
         assertThat(collection.size(), is(1));
     }
+    
+    @Test
+    public void assertHasServiceInstances() {
+        NewInstanceServiceLoader.register(BaseAlgorithmFixture.class);
+        NewInstanceServiceLoader.register(Collection.class);
+        assertTrue(NewInstanceServiceLoader.hasServiceInstances(BaseAlgorithmFixture.class));
+        assertFalse(NewInstanceServiceLoader.hasServiceInstances(Collection.class));
+    }
+    
+    @Test
+    public void assertNewOrSharedInstance() {
+        NewInstanceServiceLoader.register(BaseAlgorithmFixture.class);
+        NewInstanceServiceLoader.register(Collection.class);
+        ArrayList sharedInstance = NewInstanceServiceLoader.newOrSharedInstance(Collection.class, ArrayList.class);
+        assertThat(NewInstanceServiceLoader.newOrSharedInstance(Collection.class, ArrayList.class), sameInstance(sharedInstance));
+        ArrayList newInstance = NewInstanceServiceLoader.newOrSharedInstance(BaseAlgorithmFixture.class, ArrayList.class);
+        assertThat(NewInstanceServiceLoader.newOrSharedInstance(BaseAlgorithmFixture.class, ArrayList.class), not(sameInstance(newInstance)));
+    }
 }
@@ -23,6 +23,7 @@ import org.junit.Test;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 
@@ -71,6 +72,23 @@ public final class AESShardingEncryptorTest {
         assertThat(encryptor.decrypt("dSpPiyENQGDUXMKFMJPGWA==").toString(), is("test"));
     }
     
+    @Test
+    public void assertEncodeAndDecodeAfterInit() {
+        encryptor.init();
+        assertThat(encryptor.decrypt(encryptor.encrypt("test")).toString(), is("test"));
+        assertThat(encryptor.encrypt("test"), is("dSpPiyENQGDUXMKFMJPGWA=="));
+    }
+    
+    @Test
+    public void assertEncodeAfterKeyChanged() {
+        assertThat(encryptor.encrypt("test"), is("dSpPiyENQGDUXMKFMJPGWA=="));
+        Properties properties = new Properties();
+        properties.setProperty("aes.key.value", "other");
+        encryptor.setProperties(properties);
+        assertThat(encryptor.decrypt(encryptor.encrypt("test")).toString(), is("test"));
+        assertThat(encryptor.encrypt("test"), not("dSpPiyENQGDUXMKFMJPGWA=="));
+    }
+    
     @Test
     public void assertGetProperties() {
         assertThat(encryptor.getProperties().get("aes.key.value").toString(), is("test"));
@@ -31,10 +31,13 @@ import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 public final class SnowflakeShardingKeyGeneratorTest {
     
@@ -126,18 +129,70 @@ public final class SnowflakeShardingKeyGeneratorTest {
         assertThat(actual, is(expected));
     }
     
+    @Test
+    @SneakyThrows
+    public void assertGenerateKeysWithMultipleThreads() {
+        int threadNumber = Runtime.getRuntime().availableProcessors() << 1;
+        ExecutorService executor = Executors.newFixedThreadPool(threadNumber);
+        final SnowflakeShardingKeyGenerator keyGenerator = new SnowflakeShardingKeyGenerator();
+        SnowflakeShardingKeyGenerator.setTimeService(new TimeService());
+        keyGenerator.setProperties(new Properties());
+        List<Future<List<Comparable<?>>>> futures = new ArrayList<>();
+        for (int i = 0; i < threadNumber << 2; i++) {
+            futures.add(executor.submit(new Callable<List<Comparable<?>>>() {
+                
+                @Override
+                public List<Comparable<?>> call() {
+                    List<Comparable<?>> result = new ArrayList<>();
+                    for (int i = 0; i < 100; i++) {
+                        result.add(keyGenerator.generateKey());
+                        result.addAll(keyGenerator.generateKeys(50));
+                    }
+                    return result;
+                }
+            }));
+        }
+        Set<Comparable<?>> actual = new HashSet<>();
+        for (Future<List<Comparable<?>>> each : futures) {
+            List<Comparable<?>> keys = each.get();
+            for (int i = 1; i < keys.size(); i++) {
+                assertTrue((Long) keys.get(i) > (Long) keys.get(i - 1));
+            }
+            actual.addAll(keys);
+        }
+        executor.shutdown();
+        assertThat(actual.size(), is((threadNumber << 2) * 100 * 51));
+    }
+    
+    @Test
+    public void assertGenerateKeysBeyondMaxSequencePerMilliSecond() {
+        SnowflakeShardingKeyGenerator keyGenerator = new SnowflakeShardingKeyGenerator();
+        TimeService timeService = new FixedTimeService(2);
+        SnowflakeShardingKeyGenerator.setTimeService(timeService);
+        keyGenerator.setProperties(new Properties());
+        setLastMilliseconds(keyGenerator, timeService.getCurrentMillis());
+        setSequence(keyGenerator, (1 << DEFAULT_SEQUENCE_BITS) - 3);
+        List<Comparable<?>> expected = Arrays.<Comparable<?>>asList(4094L, 4095L, 4194305L, 4194306L, 4194307L);
+        assertThat(keyGenerator.generateKeys(5), is(expected));
+    }
+    
     @SneakyThrows
     private void setSequence(final SnowflakeShardingKeyGenerator keyGenerator, final Number value) {
-        Field sequence = SnowflakeShardingKeyGenerator.class.getDeclaredField("sequence");
-        sequence.setAccessible(true);
-        sequence.set(keyGenerator, value);
+        AtomicLong state = getState(keyGenerator);
+        state.set(state.get() & ~((1L << DEFAULT_SEQUENCE_BITS) - 1) | value.longValue());
     }
     
     @SneakyThrows
     private void setLastMilliseconds(final SnowflakeShardingKeyGenerator keyGenerator, final Number value) {
-        Field lastMilliseconds = SnowflakeShardingKeyGenerator.class.getDeclaredField("lastMilliseconds");
-        lastMilliseconds.setAccessible(true);
-        lastMilliseconds.set(keyGenerator, value);
+        AtomicLong state = getState(keyGenerator);
+        state.set(value.longValue() << (DEFAULT_SEQUENCE_BITS + 1) | state.get() & ((1L << (DEFAULT_SEQUENCE_BITS + 1)) - 1));
+    }
+    
+    @SneakyThrows
+    private AtomicLong getState(final SnowflakeShardingKeyGenerator keyGenerator) {
+        Field state = SnowflakeShardingKeyGenerator.class.getDeclaredField("state");
+        state.setAccessible(true);
+        return (AtomicLong) state.get(keyGenerator);
     }
     
     @Test(expected = IllegalArgumentException.class)
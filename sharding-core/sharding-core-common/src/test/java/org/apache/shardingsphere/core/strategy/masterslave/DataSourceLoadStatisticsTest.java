@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.masterslave;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class DataSourceLoadStatisticsTest {
+    
+    private final DataSourceLoadStatistics statistics = new DataSourceLoadStatistics();
+    
+    @Test
+    public void assertGetScoreWithoutSampleAndOutstandingRequests() {
+        assertThat(statistics.getScore(), is(0D));
+    }
+    
+    @Test
+    public void assertGetScoreWithoutSampleButOutstandingRequests() {
+        statistics.start();
+        statistics.start();
+        assertThat(statistics.getScore(), is((double) TimeUnit.SECONDS.toNanos(1L) * 3));
+    }
+    
+    @Test
+    public void assertGetScoreWithSample() {
+        statistics.start();
+        statistics.finishSuccess(TimeUnit.MILLISECONDS.toNanos(5L));
+        statistics.start();
+        assertThat(statistics.getScore(), is((double) TimeUnit.MILLISECONDS.toNanos(5L) * 2));
+    }
+    
+    @Test
+    public void assertGetErrorRate() {
+        for (int i = 0; i < 4; i++) {
+            statistics.start();
+            statistics.finishSuccess(TimeUnit.MILLISECONDS.toNanos(1L));
+        }
+        statistics.start();
+        statistics.finishFailure(TimeUnit.MILLISECONDS.toNanos(1L));
+        assertThat(statistics.getErrorRate(10), is(0D));
+        assertThat(statistics.getErrorRate(5), is(0.2D));
+        assertThat(statistics.getOutstandingRequests(), is(0));
+    }
+}
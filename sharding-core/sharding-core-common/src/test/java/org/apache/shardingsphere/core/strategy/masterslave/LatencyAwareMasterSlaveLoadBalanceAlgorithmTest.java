@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.masterslave;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class LatencyAwareMasterSlaveLoadBalanceAlgorithmTest {
+    
+    private final LatencyAwareMasterSlaveLoadBalanceAlgorithm latencyAwareMasterSlaveLoadBalanceAlgorithm = new LatencyAwareMasterSlaveLoadBalanceAlgorithm();
+    
+    private final String slaveDataSourceName1 = "test_ds_slave_1";
+    
+    private final String slaveDataSourceName2 = "test_ds_slave_2";
+    
+    private final String slaveDataSourceName3 = "test_ds_slave_3";
+    
+    @Before
+    public void setUp() {
+        latencyAwareMasterSlaveLoadBalanceAlgorithm.setProperties(new Properties());
+    }
+    
+    @Test
+    public void assertSetProperties() {
+        Properties props = new Properties();
+        props.setProperty("error.rate.threshold", "0.3");
+        props.setProperty("error.minimum.requests", "20");
+        latencyAwareMasterSlaveLoadBalanceAlgorithm.setProperties(props);
+        assertThat(latencyAwareMasterSlaveLoadBalanceAlgorithm.getErrorRateThreshold(), is(0.3D));
+        assertThat(latencyAwareMasterSlaveLoadBalanceAlgorithm.getErrorMinimumRequests(), is(20));
+    }
+    
+    @Test
+    public void assertGetDataSourceWithOneSlave() {
+        assertThat(latencyAwareMasterSlaveLoadBalanceAlgorithm.getDataSource("ds", "test_ds_master", Collections.singletonList(slaveDataSourceName1)), is(slaveDataSourceName1));
+    }
+    
+    @Test
+    public void assertGetDataSourceAvoidSlowSlave() {
+        List<String> slaveDataSourceNames = Arrays.asList(slaveDataSourceName1, slaveDataSourceName2, slaveDataSourceName3);
+        Map<String, Long> latencies = new HashMap<>(3, 1);
+        latencies.put(slaveDataSourceName1, TimeUnit.MILLISECONDS.toNanos(2L));
+        latencies.put(slaveDataSourceName2, TimeUnit.MILLISECONDS.toNanos(3L));
+        latencies.put(slaveDataSourceName3, TimeUnit.MILLISECONDS.toNanos(200L));
+        Map<String, Integer> counts = simulate(slaveDataSourceNames, latencies, Collections.<String>emptySet(), 1000);
+        assertTrue(counts.get(slaveDataSourceName3) < 10);
+        assertTrue(counts.get(slaveDataSourceName1) > counts.get(slaveDataSourceName3));
+        assertTrue(counts.get(slaveDataSourceName2) > counts.get(slaveDataSourceName3));
+    }
+    
+    @Test
+    public void assertGetDataSourceAvoidBusySlave() {
+        List<String> slaveDataSourceNames = Arrays.asList(slaveDataSourceName1, slaveDataSourceName2);
+        latencyAwareMasterSlaveLoadBalanceAlgorithm.getStatistics(slaveDataSourceName1).start();
+        latencyAwareMasterSlaveLoadBalanceAlgorithm.getStatistics(slaveDataSourceName1).finishSuccess(TimeUnit.MILLISECONDS.toNanos(5L));
+        latencyAwareMasterSlaveLoadBalanceAlgorithm.getStatistics(slaveDataSourceName2).start();
+        latencyAwareMasterSlaveLoadBalanceAlgorithm.getStatistics(slaveDataSourceName2).finishSuccess(TimeUnit.MILLISECONDS.toNanos(5L));
+        for (int i = 0; i < 5; i++) {
+            latencyAwareMasterSlaveLoadBalanceAlgorithm.getStatistics(slaveDataSourceName1).start();
+        }
+        for (int i = 0; i < 10; i++) {
+            assertThat(latencyAwareMasterSlaveLoadBalanceAlgorithm.getDataSource("ds", "test_ds_master", slaveDataSourceNames), is(slaveDataSourceName2));
+        }
+    }
+    
+    @Test
+    public void assertGetDataSourceEjectFailingSlave() {
+        Map<String, Long> latencies = new HashMap<>(3, 1);
+        latencies.put(slaveDataSourceName1, TimeUnit.MILLISECONDS.toNanos(5L));
+        latencies.put(slaveDataSourceName2, TimeUnit.MILLISECONDS.toNanos(5L));
+        latencies.put(slaveDataSourceName3, TimeUnit.MILLISECONDS.toNanos(1L));
+        for (int i = 0; i < 10; i++) {
+            latencyAwareMasterSlaveLoadBalanceAlgorithm.getStatistics(slaveDataSourceName3).start();
+            latencyAwareMasterSlaveLoadBalanceAlgorithm.getStatistics(slaveDataSourceName3).finishFailure(TimeUnit.MILLISECONDS.toNanos(1L));
+        }
+        List<String> slaveDataSourceNames = Arrays.asList(slaveDataSourceName1, slaveDataSourceName2, slaveDataSourceName3);
+        Map<String, Integer> counts = simulate(slaveDataSourceNames, latencies, Collections.singleton(slaveDataSourceName3), 100);
+        assertThat(counts.get(slaveDataSourceName3), is(0));
+    }
+    
+    @Test
+    public void assertGetDataSourceAvoidBusyUnsampledSlave() {
+        List<String> slaveDataSourceNames = Arrays.asList(slaveDataSourceName1, slaveDataSourceName2);
+        latencyAwareMasterSlaveLoadBalanceAlgorithm.getStatistics(slaveDataSourceName1).start();
+        latencyAwareMasterSlaveLoadBalanceAlgorithm.getStatistics(slaveDataSourceName2).start();
+        latencyAwareMasterSlaveLoadBalanceAlgorithm.getStatistics(slaveDataSourceName2).finishSuccess(TimeUnit.MILLISECONDS.toNanos(5L));
+        for (int i = 0; i < 10; i++) {
+            assertThat(latencyAwareMasterSlaveLoadBalanceAlgorithm.getDataSource("ds", "test_ds_master", slaveDataSourceNames), is(slaveDataSourceName2));
+        }
+    }
+    
+    @Test
+    public void assertGetStatisticsScopedToAlgorithm() {
+        latencyAwareMasterSlaveLoadBalanceAlgorithm.getStatistics(slaveDataSourceName1).start();
+        assertThat(latencyAwareMasterSlaveLoadBalanceAlgorithm.getStatistics(slaveDataSourceName1).getOutstandingRequests(), is(1));
+        assertThat(new LatencyAwareMasterSlaveLoadBalanceAlgorithm().getStatistics(slaveDataSourceName1).getOutstandingRequests(), is(0));
+    }
+    
+    @Test
+    public void assertGetDataSourceWhenAllSlavesEjected() {
+        List<String> slaveDataSourceNames = Arrays.asList(slaveDataSourceName1, slaveDataSourceName2);
+        for (String each : slaveDataSourceNames) {
+            for (int i = 0; i < 10; i++) {
+                latencyAwareMasterSlaveLoadBalanceAlgorithm.getStatistics(each).start();
+                latencyAwareMasterSlaveLoadBalanceAlgorithm.getStatistics(each).finishFailure(TimeUnit.MILLISECONDS.toNanos(1L));
+            }
+        }
+        assertTrue(slaveDataSourceNames.contains(latencyAwareMasterSlaveLoadBalanceAlgorithm.getDataSource("ds", "test_ds_master", slaveDataSourceNames)));
+    }
+    
+    private Map<String, Integer> simulate(final List<String> slaveDataSourceNames, final Map<String, Long> latencies, final Collection<String> failingDataSourceNames, final int times) {
+        Map<String, Integer> result = new HashMap<>(slaveDataSourceNames.size(), 1);
+        for (String each : slaveDataSourceNames) {
+            result.put(each, 0);
+        }
+        for (int i = 0; i < times; i++) {
+            String dataSourceName = latencyAwareMasterSlaveLoadBalanceAlgorithm.getDataSource("ds", "test_ds_master", slaveDataSourceNames);
+            result.put(dataSourceName, result.get(dataSourceName) + 1);
+            DataSourceLoadStatistics statistics = latencyAwareMasterSlaveLoadBalanceAlgorithm.getStatistics(dataSourceName);
+            statistics.start();
+            if (failingDataSourceNames.contains(dataSourceName)) {
+                statistics.finishFailure(latencies.get(dataSourceName));
+            } else {
+                statistics.finishSuccess(latencies.get(dataSourceName));
+            }
+        }
+        return result;
+    }
+}
@@ -39,6 +39,11 @@ public final class MasterSlaveLoadBalanceAlgorithmServiceLoaderTest {
         assertThat(serviceLoader.newService("RANDOM", new Properties()), instanceOf(RandomMasterSlaveLoadBalanceAlgorithm.class));
     }
     
+    @Test
+    public void assertNewLatencyAwareMasterSlaveLoadBalanceAlgorithm() {
+        assertThat(serviceLoader.newService("LATENCY_AWARE", new Properties()), instanceOf(LatencyAwareMasterSlaveLoadBalanceAlgorithm.class));
+    }
+    
     @Test
     public void assertNewDefaultMasterSlaveLoadBalanceAlgorithm() {
         assertThat(serviceLoader.newService(), instanceOf(RoundRobinMasterSlaveLoadBalanceAlgorithm.class));
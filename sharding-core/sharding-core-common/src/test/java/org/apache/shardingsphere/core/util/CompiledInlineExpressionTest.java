@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.util;
+
+import groovy.lang.Closure;
+import groovy.util.Expando;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+public final class CompiledInlineExpressionTest {
+    
+    @Test
+    public void assertEvaluateForModulo() {
+        assertEvaluateSameAsGroovy("t_order_${order_id % 16}", 17);
+        assertEvaluateSameAsGroovy("t_order_${order_id % 16}", -17);
+        assertEvaluateSameAsGroovy("t_order_${order_id % 16}", 17L);
+        assertEvaluateSameAsGroovy("t_order_${order_id % 16}", (short) 17);
+    }
+    
+    @Test
+    public void assertCompileWithOctalModulo() {
+        assertFalse(new InlineExpressionParser("t_order_${order_id % 010}").compile().isPresent());
+        CompiledInlineExpression expression = new InlineExpressionParser("t_order_${order_id % 8}").compile().get();
+        assertThat(expression.evaluate("order_id", 17).get(), is(evaluateWithGroovy("t_order_${order_id % 010}", 17)));
+    }
+    
+    @Test
+    public void assertEvaluateForHashCode() {
+        assertEvaluateSameAsGroovy("ds_${order_id.hashCode() % 4}", "order_10");
+        assertEvaluateSameAsGroovy("ds_${order_id.hashCode() % 4}", -10L);
+    }
+    
+    @Test
+    public void assertEvaluateForVariable() {
+        assertEvaluateSameAsGroovy("t_order_${order_id}_bak", "2019");
+        assertEvaluateSameAsGroovy("t_order_${order_id}", 10);
+    }
+    
+    @Test
+    public void assertEvaluateWithUnsupportedValue() {
+        CompiledInlineExpression expression = new InlineExpressionParser("t_order_${order_id % 16}").compile().get();
+        assertFalse(expression.evaluate("order_id", new BigDecimal("17")).isPresent());
+        assertFalse(expression.evaluate("order_id", null).isPresent());
+        assertFalse(expression.evaluate("ORDER_ID", 17).isPresent());
+    }
+    
+    private void assertEvaluateSameAsGroovy(final String inlineExpression, final Object value) {
+        CompiledInlineExpression expression = new InlineExpressionParser(inlineExpression).compile().get();
+        assertThat(expression.evaluate("order_id", value).get(), is(evaluateWithGroovy(inlineExpression, value)));
+    }
+    
+    private String evaluateWithGroovy(final String inlineExpression, final Object value) {
+        Closure<?> closure = new InlineExpressionParser(inlineExpression).evaluateClosure().rehydrate(new Expando(), null, null);
+        closure.setResolveStrategy(Closure.DELEGATE_ONLY);
+        closure.setProperty("order_id", value);
+        return closure.call().toString();
+    }
+}
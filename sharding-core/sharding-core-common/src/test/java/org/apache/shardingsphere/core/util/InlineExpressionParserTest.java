@@ -24,7 +24,9 @@ import java.util.List;
 
 import static org.hamcrest.CoreMatchers.hasItems;
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 public final class InlineExpressionParserTest {
     
@@ -106,4 +108,28 @@ public final class InlineExpressionParserTest {
         assertThat(expected.size(), is(1024));
         assertThat(expected, hasItems("ds_0.t_user_0", "ds_15.t_user_1023"));
     }
+    
+    @Test
+    public void assertCompileForModulo() {
+        assertTrue(new InlineExpressionParser("t_order_${order_id % 16}").compile().isPresent());
+        assertTrue(new InlineExpressionParser("t_order_$->{order_id%16}").compile().isPresent());
+    }
+    
+    @Test
+    public void assertCompileForHashCode() {
+        assertTrue(new InlineExpressionParser("ds_${user_id.hashCode() % 4}").compile().isPresent());
+    }
+    
+    @Test
+    public void assertCompileForVariable() {
+        assertTrue(new InlineExpressionParser("t_order_${order_id}").compile().isPresent());
+    }
+    
+    @Test
+    public void assertCompileForComplexExpression() {
+        assertFalse(new InlineExpressionParser("t_order_${Math.abs(order_id % 16)}").compile().isPresent());
+        assertFalse(new InlineExpressionParser("t_${order_id % 2}_${user_id % 2}").compile().isPresent());
+        assertFalse(new InlineExpressionParser("t_order_${it % 2}").compile().isPresent());
+        assertFalse(new InlineExpressionParser(null).compile().isPresent());
+    }
 }
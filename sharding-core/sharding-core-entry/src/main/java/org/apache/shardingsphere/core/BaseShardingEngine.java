@@ -60,7 +60,7 @@ public abstract class BaseShardingEngine {
     
     private final ShardingSphereMetaData metaData;
     
-    private final SPIRoutingHook routingHook = new SPIRoutingHook();
+    private final SPIRoutingHook routingHook = SPIRoutingHook.newInstance();
     
     /**
      * Shard.
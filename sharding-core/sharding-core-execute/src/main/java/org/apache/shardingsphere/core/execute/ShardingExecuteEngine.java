@@ -44,7 +44,11 @@ public final class ShardingExecuteEngine implements AutoCloseable {
     private ListeningExecutorService executorService;
     
     public ShardingExecuteEngine(final int executorSize) {
-        shardingExecutorService = new ShardingExecutorService(executorSize);
+        this(executorSize, false);
+    }
+    
+    public ShardingExecuteEngine(final int executorSize, final boolean virtualThreadEnabled) {
+        shardingExecutorService = new ShardingExecutorService(executorSize, virtualThreadEnabled);
         executorService = shardingExecutorService.getExecutorService();
     }
     
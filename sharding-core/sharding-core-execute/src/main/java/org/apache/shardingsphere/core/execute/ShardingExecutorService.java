@@ -17,9 +17,11 @@
 
 package org.apache.shardingsphere.core.execute;
 
+import com.google.common.base.Optional;
 import com.google.common.util.concurrent.ListeningExecutorService;
 import com.google.common.util.concurrent.MoreExecutors;
 import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
 
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -33,6 +35,7 @@ import java.util.concurrent.TimeUnit;
  * @author zhaojun
  */
 @Getter
+@Slf4j
 public final class ShardingExecutorService {
     
     private static final String DEFAULT_NAME_FORMAT = "%d";
@@ -46,11 +49,26 @@ public final class ShardingExecutorService {
     }
     
     public ShardingExecutorService(final int executorSize, final String nameFormat) {
-        executorService = MoreExecutors.listeningDecorator(getExecutorService(executorSize, nameFormat));
+        this(executorSize, nameFormat, false);
+    }
+    
+    public ShardingExecutorService(final int executorSize, final boolean virtualThreadEnabled) {
+        this(executorSize, DEFAULT_NAME_FORMAT, virtualThreadEnabled);
+    }
+    
+    public ShardingExecutorService(final int executorSize, final String nameFormat, final boolean virtualThreadEnabled) {
+        executorService = MoreExecutors.listeningDecorator(getExecutorService(executorSize, nameFormat, virtualThreadEnabled));
         MoreExecutors.addDelayedShutdownHook(executorService, 60, TimeUnit.SECONDS);
     }
     
-    private ExecutorService getExecutorService(final int executorSize, final String nameFormat) {
+    private ExecutorService getExecutorService(final int executorSize, final String nameFormat, final boolean virtualThreadEnabled) {
+        if (virtualThreadEnabled) {
+            Optional<ExecutorService> result = VirtualThreadExecutors.newThreadPerTaskExecutor(nameFormat);
+            if (result.isPresent()) {
+                return result.get();
+            }
+            log.warn("Virtual threads are not supported by current JDK, use platform threads instead.");
+        }
         ThreadFactory shardingThreadFactory = ShardingThreadFactoryBuilder.build(nameFormat);
         return 0 == executorSize ? Executors.newCachedThreadPool(shardingThreadFactory) : Executors.newFixedThreadPool(executorSize, shardingThreadFactory);
     }
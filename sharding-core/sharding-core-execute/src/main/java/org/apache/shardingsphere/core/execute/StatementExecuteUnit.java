@@ -19,8 +19,10 @@ package org.apache.shardingsphere.core.execute;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import org.apache.shardingsphere.core.constant.ConnectionMode;
 import org.apache.shardingsphere.core.route.RouteUnit;
+import org.apache.shardingsphere.spi.database.DataSourceMetaData;
 
 import java.sql.Statement;
 
@@ -39,4 +41,7 @@ public final class StatementExecuteUnit {
     private final Statement statement;
     
     private final ConnectionMode connectionMode;
+    
+    @Setter
+    private DataSourceMetaData dataSourceMetaData;
 }
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute;
+
+import com.google.common.base.Optional;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.SneakyThrows;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Virtual thread executors.
+ * 
+ * <p>
+ *     Create virtual thread executors by reflection, so that the code still compiles and runs on JDKs without virtual threads.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class VirtualThreadExecutors {
+    
+    private static final String NAME_FORMAT_PREFIX = "ShardingSphere-";
+    
+    private static final Method OF_VIRTUAL_METHOD;
+    
+    private static final Method NAME_METHOD;
+    
+    private static final Method FACTORY_METHOD;
+    
+    private static final Method NEW_THREAD_PER_TASK_EXECUTOR_METHOD;
+    
+    static {
+        Method ofVirtualMethod = null;
+        Method nameMethod = null;
+        Method factoryMethod = null;
+        Method newThreadPerTaskExecutorMethod = null;
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            ofVirtualMethod = Thread.class.getMethod("ofVirtual");
+            nameMethod = builderClass.getMethod("name", String.class, long.class);
+            factoryMethod = builderClass.getMethod("factory");
+            newThreadPerTaskExecutorMethod = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+        } catch (final ClassNotFoundException | NoSuchMethodException ignored) {
+            ofVirtualMethod = null;
+        }
+        OF_VIRTUAL_METHOD = ofVirtualMethod;
+        NAME_METHOD = nameMethod;
+        FACTORY_METHOD = factoryMethod;
+        NEW_THREAD_PER_TASK_EXECUTOR_METHOD = newThreadPerTaskExecutorMethod;
+    }
+    
+    /**
+     * Judge whether current JDK supports virtual threads.
+     *
+     * @return support virtual threads or not
+     */
+    public static boolean isSupported() {
+        return null != OF_VIRTUAL_METHOD;
+    }
+    
+    /**
+     * Create virtual thread factory.
+     *
+     * @param nameFormat thread name format, the {@code %d} placeholder is replaced by thread sequence
+     * @return virtual thread factory, absent if current JDK does not support virtual threads
+     */
+    @SneakyThrows
+    public static Optional<ThreadFactory> newThreadFactory(final String nameFormat) {
+        if (!isSupported()) {
+            return Optional.absent();
+        }
+        Object builder = NAME_METHOD.invoke(OF_VIRTUAL_METHOD.invoke(null), NAME_FORMAT_PREFIX + nameFormat.replace("%d", ""), 0L);
+        return Optional.of((ThreadFactory) FACTORY_METHOD.invoke(builder));
+    }
+    
+    /**
+     * Create executor service which starts a new virtual thread for each task.
+     *
+     * @param nameFormat thread name format, the {@code %d} placeholder is replaced by thread sequence
+     * @return executor service, absent if current JDK does not support virtual threads
+     */
+    @SneakyThrows
+    public static Optional<ExecutorService> newThreadPerTaskExecutor(final String nameFormat) {
+        Optional<ThreadFactory> threadFactory = newThreadFactory(nameFormat);
+        return threadFactory.isPresent() ? Optional.of((ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR_METHOD.invoke(null, threadFactory.get())) : Optional.<ExecutorService>absent();
+    }
+}
@@ -34,6 +34,15 @@ public final class SPIRootInvokeHook implements RootInvokeHook {
         NewInstanceServiceLoader.register(RootInvokeHook.class);
     }
     
+    /**
+     * Create root invoke hook, or share the empty one if no hook is registered.
+     *
+     * @return root invoke hook
+     */
+    public static SPIRootInvokeHook newInstance() {
+        return NewInstanceServiceLoader.newOrSharedInstance(RootInvokeHook.class, SPIRootInvokeHook.class);
+    }
+    
     @Override
     public void start() {
         for (RootInvokeHook each : rootInvokeHooks) {
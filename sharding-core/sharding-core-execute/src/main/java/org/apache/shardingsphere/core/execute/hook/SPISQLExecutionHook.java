@@ -37,6 +37,15 @@ public final class SPISQLExecutionHook implements SQLExecutionHook {
         NewInstanceServiceLoader.register(SQLExecutionHook.class);
     }
     
+    /**
+     * Create SQL execution hook, or share the empty one if no hook is registered.
+     *
+     * @return SQL execution hook
+     */
+    public static SPISQLExecutionHook newInstance() {
+        return NewInstanceServiceLoader.newOrSharedInstance(SQLExecutionHook.class, SPISQLExecutionHook.class);
+    }
+    
     @Override
     public void start(final RouteUnit routeUnit, final DataSourceMetaData dataSourceMetaData, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) {
         for (SQLExecutionHook each : sqlExecutionHooks) {
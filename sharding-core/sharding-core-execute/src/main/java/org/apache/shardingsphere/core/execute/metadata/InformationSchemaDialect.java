@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.metadata;
+
+import com.google.common.base.Optional;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Information schema dialect.
+ * 
+ * <p>
+ * Each dialect provides set-based queries which load columns and indexes of all tables in current schema at once.
+ * The columns query returns {@code TABLE_NAME}, {@code COLUMN_NAME}, {@code TYPE_NAME} and {@code IS_PRIMARY_KEY} ordered by column position,
+ * the indexes query returns {@code TABLE_NAME} and {@code INDEX_NAME}.
+ * </p>
+ */
+@RequiredArgsConstructor
+@Getter
+public enum InformationSchemaDialect {
+    
+    MYSQL("MySQL", 
+            "SELECT TABLE_NAME, COLUMN_NAME, CONCAT(UPPER(DATA_TYPE), IF(COLUMN_TYPE LIKE '%unsigned%', ' UNSIGNED', '')) AS TYPE_NAME, COLUMN_KEY = 'PRI' AS IS_PRIMARY_KEY "
+                    + "FROM information_schema.COLUMNS WHERE TABLE_SCHEMA = DATABASE() ORDER BY TABLE_NAME, ORDINAL_POSITION", 
+            "SELECT DISTINCT TABLE_NAME, INDEX_NAME FROM information_schema.STATISTICS WHERE TABLE_SCHEMA = DATABASE()"),
+    
+    POSTGRESQL("PostgreSQL", 
+            "SELECT c.table_name AS TABLE_NAME, c.column_name AS COLUMN_NAME, c.udt_name AS TYPE_NAME, pk.column_name IS NOT NULL AS IS_PRIMARY_KEY "
+                    + "FROM information_schema.columns c LEFT JOIN (SELECT kcu.table_name, kcu.column_name FROM information_schema.table_constraints tc "
+                    + "JOIN information_schema.key_column_usage kcu ON tc.constraint_schema = kcu.constraint_schema AND tc.constraint_name = kcu.constraint_name AND tc.table_name = kcu.table_name "
+                    + "WHERE tc.constraint_type = 'PRIMARY KEY' AND tc.table_schema = current_schema()) pk ON c.table_name = pk.table_name AND c.column_name = pk.column_name "
+                    + "WHERE c.table_schema = current_schema() ORDER BY c.table_name, c.ordinal_position", 
+            "SELECT tablename AS TABLE_NAME, indexname AS INDEX_NAME FROM pg_indexes WHERE schemaname = current_schema()"),
+    
+    H2("H2", 
+            "SELECT C.TABLE_NAME, C.COLUMN_NAME, C.TYPE_NAME, I.COLUMN_NAME IS NOT NULL AS IS_PRIMARY_KEY FROM INFORMATION_SCHEMA.COLUMNS C "
+                    + "LEFT JOIN INFORMATION_SCHEMA.INDEXES I ON I.TABLE_SCHEMA = C.TABLE_SCHEMA AND I.TABLE_NAME = C.TABLE_NAME AND I.COLUMN_NAME = C.COLUMN_NAME AND I.PRIMARY_KEY = TRUE "
+                    + "WHERE C.TABLE_SCHEMA = SCHEMA() ORDER BY C.TABLE_NAME, C.ORDINAL_POSITION", 
+            "SELECT DISTINCT TABLE_NAME, INDEX_NAME FROM INFORMATION_SCHEMA.INDEXES WHERE TABLE_SCHEMA = SCHEMA()");
+    
+    private final String databaseProductName;
+    
+    private final String columnsSQL;
+    
+    private final String indexesSQL;
+    
+    /**
+     * Find information schema dialect via database product name.
+     * 
+     * @param databaseProductName database product name
+     * @return information schema dialect
+     */
+    public static Optional<InformationSchemaDialect> find(final String databaseProductName) {
+        for (InformationSchemaDialect each : values()) {
+            if (each.databaseProductName.equalsIgnoreCase(databaseProductName)) {
+                return Optional.of(each);
+            }
+        }
+        return Optional.absent();
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.metadata;
+
+import com.google.common.base.Optional;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.core.metadata.column.ColumnMetaData;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.Map;
+
+/**
+ * Information schema meta data loader.
+ * 
+ * <p>
+ * Load meta data of all tables in current schema with a fixed number of queries instead of several {@code DatabaseMetaData} calls per table.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Slf4j
+public final class InformationSchemaMetaDataLoader {
+    
+    private static final String TABLE_NAME = "TABLE_NAME";
+    
+    private static final String COLUMN_NAME = "COLUMN_NAME";
+    
+    private static final String TYPE_NAME = "TYPE_NAME";
+    
+    private static final String IS_PRIMARY_KEY = "IS_PRIMARY_KEY";
+    
+    private static final String INDEX_NAME = "INDEX_NAME";
+    
+    /**
+     * Load meta data of all tables in current schema.
+     * 
+     * <p>
+     * Return absent if database is not supported or information schema is not accessible, caller should fall back to {@code DatabaseMetaData}.
+     * </p>
+     * 
+     * @param connection connection
+     * @return actual table meta data map, key is actual table name
+     * @throws SQLException SQL exception
+     */
+    public static Optional<Map<String, ActualTableMetaData>> load(final Connection connection) throws SQLException {
+        Optional<InformationSchemaDialect> dialect = InformationSchemaDialect.find(connection.getMetaData().getDatabaseProductName());
+        if (!dialect.isPresent()) {
+            return Optional.absent();
+        }
+        try {
+            return Optional.of(load(connection, dialect.get()));
+        } catch (final SQLException ex) {
+            log.warn("Cannot load meta data from information schema, fall back to database meta data: {}", ex.getMessage());
+            return Optional.absent();
+        }
+    }
+    
+    private static Map<String, ActualTableMetaData> load(final Connection connection, final InformationSchemaDialect dialect) throws SQLException {
+        Map<String, Collection<ColumnMetaData>> columns = loadColumns(connection, dialect.getColumnsSQL());
+        Map<String, Collection<String>> indexes = loadIndexes(connection, dialect.getIndexesSQL());
+        Map<String, ActualTableMetaData> result = new HashMap<>(columns.size(), 1);
+        for (Map.Entry<String, Collection<ColumnMetaData>> entry : columns.entrySet()) {
+            Collection<String> tableIndexes = indexes.get(entry.getKey());
+            result.put(entry.getKey(), new ActualTableMetaData(entry.getValue(), null == tableIndexes ? new HashSet<String>() : tableIndexes));
+        }
+        return result;
+    }
+    
+    private static Map<String, Collection<ColumnMetaData>> loadColumns(final Connection connection, final String sql) throws SQLException {
+        Map<String, Collection<ColumnMetaData>> result = new HashMap<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(sql)) {
+            while (resultSet.next()) {
+                String tableName = resultSet.getString(TABLE_NAME);
+                Collection<ColumnMetaData> tableColumns = result.get(tableName);
+                if (null == tableColumns) {
+                    tableColumns = new LinkedList<>();
+                    result.put(tableName, tableColumns);
+                }
+                tableColumns.add(new ColumnMetaData(resultSet.getString(COLUMN_NAME), resultSet.getString(TYPE_NAME), resultSet.getBoolean(IS_PRIMARY_KEY)));
+            }
+        }
+        return result;
+    }
+    
+    private static Map<String, Collection<String>> loadIndexes(final Connection connection, final String sql) throws SQLException {
+        Map<String, Collection<String>> result = new HashMap<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(sql)) {
+            while (resultSet.next()) {
+                String tableName = resultSet.getString(TABLE_NAME);
+                Collection<String> tableIndexes = result.get(tableName);
+                if (null == tableIndexes) {
+                    tableIndexes = new HashSet<>();
+                    result.put(tableName, tableIndexes);
+                }
+                tableIndexes.add(resultSet.getString(INDEX_NAME));
+            }
+        }
+        return result;
+    }
+}
@@ -18,9 +18,15 @@
 package org.apache.shardingsphere.core.execute.metadata;
 
 import com.google.common.base.Optional;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.core.execute.ShardingExecuteEngine;
+import org.apache.shardingsphere.core.execute.ShardingThreadFactoryBuilder;
 import org.apache.shardingsphere.core.metadata.datasource.DataSourceMetas;
 import org.apache.shardingsphere.core.metadata.table.TableMetaData;
+import org.apache.shardingsphere.core.metadata.table.TableMetaDataLoadCallback;
+import org.apache.shardingsphere.core.metadata.table.TableMetas;
+import org.apache.shardingsphere.core.rule.EncryptRule;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.apache.shardingsphere.core.rule.TableRule;
 import org.apache.shardingsphere.spi.database.DataSourceMetaData;
@@ -30,15 +36,22 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
+import java.util.LinkedList;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
 
 /**
  * Table meta data initializer.
  *
  * @author zhangliang
  */
+@Slf4j
 public final class TableMetaDataInitializer {
     
     private final DataSourceMetas dataSourceMetas;
@@ -47,6 +60,8 @@ public final class TableMetaDataInitializer {
     
     private final TableMetaDataLoader tableMetaDataLoader;
     
+    private volatile Future<?> snapshotVerification;
+    
     public TableMetaDataInitializer(final DataSourceMetas dataSourceMetas, final ShardingExecuteEngine executeEngine,
                                     final TableMetaDataConnectionManager connectionManager, final int maxConnectionsSizePerQuery, final boolean isCheckingMetaData) {
         this.dataSourceMetas = dataSourceMetas;
@@ -74,27 +89,203 @@ public final class TableMetaDataInitializer {
      * @throws SQLException SQL exception
      */
     public Map<String, TableMetaData> load(final ShardingRule shardingRule) throws SQLException {
-        Map<String, TableMetaData> result = new HashMap<>();
-        result.putAll(loadShardingTables(shardingRule));
-        result.putAll(loadDefaultTables(shardingRule));
+        return tableMetaDataLoader.load(getLogicTableNames(shardingRule), shardingRule);
+    }
+    
+    /**
+     * Load all table meta data with snapshot.
+     * 
+     * <p>
+     * If snapshot is available, table meta data are created from it immediately and verified against databases in background,
+     * tables whose actual table definitions changed are refreshed and snapshot is rewritten after verification.
+     * </p>
+     *
+     * @param shardingRule sharding rule
+     * @param snapshot table meta data snapshot
+     * @return all table meta data
+     * @throws SQLException SQL exception
+     */
+    public TableMetas load(final ShardingRule shardingRule, final TableMetaDataSnapshot snapshot) throws SQLException {
+        Collection<String> logicTableNames = getLogicTableNames(shardingRule);
+        Collection<String> dataSourceNames = tableMetaDataLoader.getDataSourceNames(logicTableNames, shardingRule);
+        Map<String, Map<String, ActualTableMetaData>> snapshotActualTableMetaDataMap = getActualTableMetaDataMap(snapshot.read(), dataSourceNames, shardingRule);
+        if (snapshotActualTableMetaDataMap.isEmpty()) {
+            Map<String, Map<String, ActualTableMetaData>> actualTableMetaDataMap = tableMetaDataLoader.loadActualTableMetaData(dataSourceNames, shardingRule);
+            TableMetas result = new TableMetas(tableMetaDataLoader.load(logicTableNames, shardingRule, actualTableMetaDataMap));
+            snapshot.write(getSnapshotActualTableMetaDataMap(actualTableMetaDataMap, shardingRule));
+            return result;
+        }
+        TableMetas result = new TableMetas(tableMetaDataLoader.load(logicTableNames, shardingRule, snapshotActualTableMetaDataMap));
+        verifyInBackground(result, logicTableNames, dataSourceNames, shardingRule, snapshotActualTableMetaDataMap, snapshot);
         return result;
     }
     
-    private Map<String, TableMetaData> loadShardingTables(final ShardingRule shardingRule) throws SQLException {
-        Map<String, TableMetaData> result = new HashMap<>(shardingRule.getTableRules().size(), 1);
+    /**
+     * Wait for background verification of table meta data snapshot to finish.
+     * 
+     * <p>
+     * Verification refreshes table metas loaded from snapshot, so they should not be copied before it finished.
+     * Return immediately if no verification was started.
+     * </p>
+     */
+    @SneakyThrows
+    public void waitSnapshotVerification() {
+        Future<?> verification = snapshotVerification;
+        if (null != verification) {
+            verification.get();
+        }
+    }
+    
+    /**
+     * Load all table meta data lazily.
+     * 
+     * <p>
+     * Only table names are loaded up front, meta data of each table is loaded on first use.
+     * </p>
+     *
+     * @param shardingRule sharding rule
+     * @param maximumSize maximum size of cached table meta data, not bounded if not positive
+     * @return all table meta data
+     * @throws SQLException SQL exception
+     */
+    public TableMetas loadLazily(final ShardingRule shardingRule, final long maximumSize) throws SQLException {
+        return new TableMetas(getLogicTableNames(shardingRule), new TableMetaDataLoadCallback() {
+            
+            @Override
+            public TableMetaData load(final String logicTableName) throws SQLException {
+                return tableMetaDataLoader.load(logicTableName, shardingRule);
+            }
+        }, maximumSize);
+    }
+    
+    /**
+     * Renew all table meta data for changed sharding rule.
+     * 
+     * <p>
+     * Meta data of tables whose table rules, generate key columns and encrypt columns are unchanged are reused from previous table metas, 
+     * others are reloaded. Tables of default data source are rescanned, so tables created or dropped there are added or removed.
+     * All table meta data are reloaded if default data source changed.
+     * </p>
+     *
+     * @param previousTableMetas previous table metas, which are not modified
+     * @param previousShardingRule previous sharding rule
+     * @param shardingRule sharding rule
+     * @return all table meta data
+     * @throws SQLException SQL exception
+     */
+    public TableMetas renew(final TableMetas previousTableMetas, final ShardingRule previousShardingRule, final ShardingRule shardingRule) throws SQLException {
+        Optional<String> actualDefaultDataSourceName = shardingRule.findActualDefaultDataSourceName();
+        if (!actualDefaultDataSourceName.equals(previousShardingRule.findActualDefaultDataSourceName())) {
+            return new TableMetas(load(shardingRule));
+        }
+        Collection<String> defaultTableNames = actualDefaultDataSourceName.isPresent() ? getAllTableNames(actualDefaultDataSourceName.get()) : Collections.<String>emptySet();
+        Collection<String> logicTableNames = new LinkedHashSet<>(previousTableMetas.getAllTableNames());
         for (TableRule each : shardingRule.getTableRules()) {
-            result.put(each.getLogicTable(), tableMetaDataLoader.load(each.getLogicTable(), shardingRule));
+            logicTableNames.add(each.getLogicTable());
+        }
+        logicTableNames.addAll(defaultTableNames);
+        Map<String, TableMetaData> tables = new HashMap<>(logicTableNames.size(), 1);
+        Collection<String> reloadedTableNames = new LinkedList<>();
+        for (String each : logicTableNames) {
+            if (!shardingRule.findTableRule(each).isPresent() && !defaultTableNames.contains(each)) {
+                continue;
+            }
+            if (!isChanged(each, previousShardingRule, shardingRule) && previousTableMetas.containsTable(each)) {
+                tables.put(each, previousTableMetas.get(each));
+            } else {
+                reloadedTableNames.add(each);
+            }
+        }
+        tables.putAll(tableMetaDataLoader.load(reloadedTableNames, shardingRule));
+        return new TableMetas(tables);
+    }
+    
+    private boolean isChanged(final String logicTableName, final ShardingRule previousShardingRule, final ShardingRule shardingRule) {
+        Optional<TableRule> previousTableRule = previousShardingRule.findTableRule(logicTableName);
+        Optional<TableRule> tableRule = shardingRule.findTableRule(logicTableName);
+        if (previousTableRule.isPresent() != tableRule.isPresent()) {
+            return true;
+        }
+        if (tableRule.isPresent() && !tableRule.get().getActualDataNodes().equals(previousTableRule.get().getActualDataNodes())) {
+            return true;
+        }
+        if (!shardingRule.findGenerateKeyColumnName(logicTableName).equals(previousShardingRule.findGenerateKeyColumnName(logicTableName))) {
+            return true;
+        }
+        EncryptRule previousEncryptRule = previousShardingRule.getEncryptRule();
+        EncryptRule encryptRule = shardingRule.getEncryptRule();
+        return !encryptRule.getLogicAndCipherColumns(logicTableName).equals(previousEncryptRule.getLogicAndCipherColumns(logicTableName))
+                || !encryptRule.getLogicAndPlainColumns(logicTableName).equals(previousEncryptRule.getLogicAndPlainColumns(logicTableName))
+                || !new HashSet<>(encryptRule.getAssistedQueryColumns(logicTableName)).equals(new HashSet<>(previousEncryptRule.getAssistedQueryColumns(logicTableName)));
+    }
+    
+    private void verifyInBackground(final TableMetas tableMetas, final Collection<String> logicTableNames, final Collection<String> dataSourceNames, final ShardingRule shardingRule, 
+                                    final Map<String, Map<String, ActualTableMetaData>> snapshotActualTableMetaDataMap, final TableMetaDataSnapshot snapshot) {
+        FutureTask<Void> verification = new FutureTask<>(new Runnable() {
+            
+            @Override
+            public void run() {
+                try {
+                    verify(tableMetas, logicTableNames, dataSourceNames, shardingRule, snapshotActualTableMetaDataMap, snapshot);
+                    // CHECKSTYLE:OFF
+                } catch (final Exception ex) {
+                    // CHECKSTYLE:ON
+                    log.warn("Cannot verify table meta data snapshot `{}`: {}", snapshot.getFile(), ex.getMessage());
+                }
+            }
+        }, null);
+        snapshotVerification = verification;
+        ShardingThreadFactoryBuilder.build("MetaData-Snapshot-%d").newThread(verification).start();
+    }
+    
+    private void verify(final TableMetas tableMetas, final Collection<String> logicTableNames, final Collection<String> dataSourceNames, final ShardingRule shardingRule, 
+                        final Map<String, Map<String, ActualTableMetaData>> snapshotActualTableMetaDataMap, final TableMetaDataSnapshot snapshot) throws SQLException {
+        Map<String, Map<String, ActualTableMetaData>> actualTableMetaDataMap = tableMetaDataLoader.loadActualTableMetaData(dataSourceNames, shardingRule);
+        Collection<String> changedLogicTableNames = tableMetaDataLoader.findChangedLogicTableNames(logicTableNames, shardingRule, snapshotActualTableMetaDataMap, actualTableMetaDataMap);
+        for (Entry<String, TableMetaData> entry : tableMetaDataLoader.load(changedLogicTableNames, shardingRule, actualTableMetaDataMap).entrySet()) {
+            tableMetas.put(entry.getKey(), entry.getValue());
+        }
+        if (!snapshotActualTableMetaDataMap.equals(actualTableMetaDataMap)) {
+            snapshot.write(getSnapshotActualTableMetaDataMap(actualTableMetaDataMap, shardingRule));
+        }
+        log.info("Verified table meta data snapshot `{}`, {} table(s) refreshed.", snapshot.getFile(), changedLogicTableNames.size());
+    }
+    
+    private Map<String, Map<String, ActualTableMetaData>> getActualTableMetaDataMap(
+            final Map<String, Map<String, ActualTableMetaData>> snapshotActualTableMetaDataMap, final Collection<String> dataSourceNames, final ShardingRule shardingRule) {
+        Map<String, Map<String, ActualTableMetaData>> result = new HashMap<>(dataSourceNames.size(), 1);
+        for (String each : dataSourceNames) {
+            Map<String, ActualTableMetaData> actualTableMetaData = snapshotActualTableMetaDataMap.get(getSnapshotKey(each, shardingRule));
+            if (null != actualTableMetaData) {
+                result.put(each, actualTableMetaData);
+            }
+        }
+        return result;
+    }
+    
+    private Map<String, Map<String, ActualTableMetaData>> getSnapshotActualTableMetaDataMap(
+            final Map<String, Map<String, ActualTableMetaData>> actualTableMetaDataMap, final ShardingRule shardingRule) {
+        Map<String, Map<String, ActualTableMetaData>> result = new HashMap<>(actualTableMetaDataMap.size(), 1);
+        for (Entry<String, Map<String, ActualTableMetaData>> entry : actualTableMetaDataMap.entrySet()) {
+            result.put(getSnapshotKey(entry.getKey(), shardingRule), entry.getValue());
         }
         return result;
     }
     
-    private Map<String, TableMetaData> loadDefaultTables(final ShardingRule shardingRule) throws SQLException {
-        Map<String, TableMetaData> result = new HashMap<>(shardingRule.getTableRules().size(), 1);
+    private String getSnapshotKey(final String dataSourceName, final ShardingRule shardingRule) {
+        DataSourceMetaData dataSourceMetaData = dataSourceMetas.getDataSourceMetaData(shardingRule.getShardingDataSourceNames().getRawMasterDataSourceName(dataSourceName));
+        return null == dataSourceMetaData
+                ? dataSourceName : String.format("%s@%s:%s/%s", dataSourceName, dataSourceMetaData.getHostName(), dataSourceMetaData.getPort(), dataSourceMetaData.getSchemaName());
+    }
+    
+    private Collection<String> getLogicTableNames(final ShardingRule shardingRule) throws SQLException {
+        Collection<String> result = new LinkedHashSet<>();
+        for (TableRule each : shardingRule.getTableRules()) {
+            result.add(each.getLogicTable());
+        }
         Optional<String> actualDefaultDataSourceName = shardingRule.findActualDefaultDataSourceName();
         if (actualDefaultDataSourceName.isPresent()) {
-            for (String each : getAllTableNames(actualDefaultDataSourceName.get())) {
-                result.put(each, tableMetaDataLoader.load(each, shardingRule));
-            }
+            result.addAll(getAllTableNames(actualDefaultDataSourceName.get()));
         }
         return result;
     }
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.core.execute.metadata;
 
+import com.google.common.base.Objects;
 import com.google.common.base.Optional;
 import com.google.common.collect.Lists;
 import lombok.RequiredArgsConstructor;
@@ -38,9 +39,13 @@ import org.apache.shardingsphere.spi.database.DataSourceMetaData;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -80,7 +85,57 @@ public final class TableMetaDataLoader {
      * @throws SQLException SQL exception
      */
     public TableMetaData load(final String logicTableName, final ShardingRule shardingRule) throws SQLException {
-        List<TableMetaData> actualTableMetaDataList = load(getDataNodeGroups(shardingRule.getTableRule(logicTableName)), shardingRule, logicTableName);
+        return load(logicTableName, getDataNodeGroups(shardingRule.getTableRule(logicTableName)), shardingRule);
+    }
+    
+    /**
+     * Load table meta data of logic tables in bulk.
+     * 
+     * <p>
+     * Meta data of each involved data source is loaded from information schema once and in parallel,
+     * tables which cannot be found there are loaded via {@code DatabaseMetaData}.
+     * </p>
+     *
+     * @param logicTableNames logic table names
+     * @param shardingRule sharding rule
+     * @return table meta data map, key is logic table name
+     * @throws SQLException SQL exception
+     */
+    public Map<String, TableMetaData> load(final Collection<String> logicTableNames, final ShardingRule shardingRule) throws SQLException {
+        return load(logicTableNames, shardingRule, loadActualTableMetaData(getDataSourceNames(logicTableNames, shardingRule), shardingRule));
+    }
+    
+    /**
+     * Load table meta data of logic tables with loaded actual table meta data.
+     * 
+     * <p>
+     * Tables which cannot be found in actual table meta data are loaded via {@code DatabaseMetaData}.
+     * </p>
+     *
+     * @param logicTableNames logic table names
+     * @param shardingRule sharding rule
+     * @param actualTableMetaDataMap actual table meta data map, key is data source name, value is actual table meta data of the data source
+     * @return table meta data map, key is logic table name
+     * @throws SQLException SQL exception
+     */
+    public Map<String, TableMetaData> load(final Collection<String> logicTableNames, final ShardingRule shardingRule, 
+                                           final Map<String, Map<String, ActualTableMetaData>> actualTableMetaDataMap) throws SQLException {
+        Map<String, TableMetaData> result = new HashMap<>(logicTableNames.size(), 1);
+        for (String each : logicTableNames) {
+            Map<String, List<DataNode>> dataNodeGroups = getDataNodeGroups(shardingRule.getTableRule(each));
+            Optional<List<TableMetaData>> actualTableMetaDataList = createTableMetaDataList(each, dataNodeGroups, actualTableMetaDataMap, shardingRule);
+            if (actualTableMetaDataList.isPresent()) {
+                checkUniformed(each, actualTableMetaDataList.get());
+                result.put(each, actualTableMetaDataList.get().iterator().next());
+            } else {
+                result.put(each, load(each, dataNodeGroups, shardingRule));
+            }
+        }
+        return result;
+    }
+    
+    private TableMetaData load(final String logicTableName, final Map<String, List<DataNode>> dataNodeGroups, final ShardingRule shardingRule) throws SQLException {
+        List<TableMetaData> actualTableMetaDataList = load(dataNodeGroups, shardingRule, logicTableName);
         checkUniformed(logicTableName, actualTableMetaDataList);
         return actualTableMetaDataList.iterator().next();
     }
@@ -111,6 +166,125 @@ public final class TableMetaDataLoader {
         return result;
     }
     
+    /**
+     * Get names of data sources which meta data of logic tables are loaded from.
+     *
+     * @param logicTableNames logic table names
+     * @param shardingRule sharding rule
+     * @return data source names
+     */
+    public Collection<String> getDataSourceNames(final Collection<String> logicTableNames, final ShardingRule shardingRule) {
+        Collection<String> result = new LinkedHashSet<>();
+        for (String each : logicTableNames) {
+            result.addAll(getDataNodeGroups(shardingRule.getTableRule(each)).keySet());
+        }
+        return result;
+    }
+    
+    /**
+     * Find names of logic tables whose actual table meta data are different between previous and current.
+     * 
+     * <p>
+     * Data sources absent in current actual table meta data are not compared.
+     * </p>
+     *
+     * @param logicTableNames logic table names
+     * @param shardingRule sharding rule
+     * @param previous previous actual table meta data map
+     * @param current current actual table meta data map
+     * @return changed logic table names
+     */
+    public Collection<String> findChangedLogicTableNames(final Collection<String> logicTableNames, final ShardingRule shardingRule, 
+                                                         final Map<String, Map<String, ActualTableMetaData>> previous, final Map<String, Map<String, ActualTableMetaData>> current) {
+        Collection<String> result = new LinkedList<>();
+        for (String each : logicTableNames) {
+            if (isChanged(getDataNodeGroups(shardingRule.getTableRule(each)), previous, current)) {
+                result.add(each);
+            }
+        }
+        return result;
+    }
+    
+    private boolean isChanged(final Map<String, List<DataNode>> dataNodeGroups, 
+                              final Map<String, Map<String, ActualTableMetaData>> previous, final Map<String, Map<String, ActualTableMetaData>> current) {
+        for (Entry<String, List<DataNode>> entry : dataNodeGroups.entrySet()) {
+            Map<String, ActualTableMetaData> currentSchemaMetaData = current.get(entry.getKey());
+            if (null == currentSchemaMetaData) {
+                continue;
+            }
+            Map<String, ActualTableMetaData> previousSchemaMetaData = previous.get(entry.getKey());
+            for (DataNode each : entry.getValue()) {
+                ActualTableMetaData previousActualTableMetaData = null == previousSchemaMetaData ? null : previousSchemaMetaData.get(each.getTableName());
+                if (!Objects.equal(previousActualTableMetaData, currentSchemaMetaData.get(each.getTableName()))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Load actual table meta data of data sources from information schema in parallel.
+     * 
+     * <p>
+     * Data sources which do not support information schema loading are absent in result.
+     * </p>
+     *
+     * @param dataSourceNames data source names
+     * @param shardingRule sharding rule
+     * @return actual table meta data map, key is data source name, value is actual table meta data of the data source
+     * @throws SQLException SQL exception
+     */
+    public Map<String, Map<String, ActualTableMetaData>> loadActualTableMetaData(final Collection<String> dataSourceNames, final ShardingRule shardingRule) throws SQLException {
+        Collection<ShardingExecuteGroup<String>> executeGroups = new LinkedList<>();
+        for (String each : dataSourceNames) {
+            executeGroups.add(new ShardingExecuteGroup<>(Collections.singletonList(each)));
+        }
+        List<Entry<String, Map<String, ActualTableMetaData>>> schemaMetaDataList = executeEngine.groupExecute(
+                executeGroups, new ShardingGroupExecuteCallback<String, Entry<String, Map<String, ActualTableMetaData>>>() {
+                
+                    @Override
+                    public Collection<Entry<String, Map<String, ActualTableMetaData>>> execute(
+                            final Collection<String> dataSourceNames, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) throws SQLException {
+                        Collection<Entry<String, Map<String, ActualTableMetaData>>> result = new LinkedList<>();
+                        for (String each : dataSourceNames) {
+                            try (Connection connection = connectionManager.getConnection(shardingRule.getShardingDataSourceNames().getRawMasterDataSourceName(each))) {
+                                Optional<Map<String, ActualTableMetaData>> schemaMetaData = InformationSchemaMetaDataLoader.load(connection);
+                                if (schemaMetaData.isPresent()) {
+                                    result.add(new SimpleImmutableEntry<>(each, schemaMetaData.get()));
+                                }
+                            }
+                        }
+                        return result;
+                    }
+                });
+        Map<String, Map<String, ActualTableMetaData>> result = new HashMap<>(schemaMetaDataList.size(), 1);
+        for (Entry<String, Map<String, ActualTableMetaData>> each : schemaMetaDataList) {
+            result.put(each.getKey(), each.getValue());
+        }
+        return result;
+    }
+    
+    private Optional<List<TableMetaData>> createTableMetaDataList(final String logicTableName, final Map<String, List<DataNode>> dataNodeGroups, 
+                                                                  final Map<String, Map<String, ActualTableMetaData>> actualTableMetaDataMap, final ShardingRule shardingRule) {
+        String generateKeyColumnName = shardingRule.findGenerateKeyColumnName(logicTableName).orNull();
+        List<TableMetaData> result = new ArrayList<>();
+        for (Entry<String, List<DataNode>> entry : dataNodeGroups.entrySet()) {
+            Map<String, ActualTableMetaData> schemaMetaData = actualTableMetaDataMap.get(entry.getKey());
+            if (null == schemaMetaData) {
+                return Optional.absent();
+            }
+            for (DataNode each : entry.getValue()) {
+                ActualTableMetaData actualTableMetaData = schemaMetaData.get(each.getTableName());
+                if (null == actualTableMetaData) {
+                    return Optional.absent();
+                }
+                result.add(createTableMetaData(logicTableName, each.getTableName(), actualTableMetaData, generateKeyColumnName, shardingRule.getEncryptRule()));
+            }
+        }
+        return Optional.of(result);
+    }
+    
     private Map<String, List<DataNode>> getDataNodeGroups(final TableRule tableRule) {
         return isCheckingMetaData ? tableRule.getDataNodeGroups() : getFirstDataNodeWithGroups(tableRule);
     }
@@ -136,6 +310,26 @@ public final class TableMetaDataLoader {
         return result;
     }
     
+    private TableMetaData createTableMetaData(final String logicTableName, final String actualTableName, 
+                                              final ActualTableMetaData actualTableMetaData, final String generateKeyColumnName, final EncryptRule encryptRule) {
+        Collection<ColumnMetaData> columns = new LinkedList<>();
+        Collection<String> derivedColumns = encryptRule.getAssistedQueryAndPlainColumns(logicTableName);
+        for (ColumnMetaData each : actualTableMetaData.getColumns()) {
+            Optional<ColumnMetaData> columnMetaData = getColumnMetaData(logicTableName, each.getName(), each.getDataType(), each.isPrimaryKey(), generateKeyColumnName, encryptRule, derivedColumns);
+            if (columnMetaData.isPresent()) {
+                columns.add(columnMetaData.get());
+            }
+        }
+        Collection<String> indexes = new HashSet<>();
+        for (String each : actualTableMetaData.getIndexes()) {
+            Optional<String> logicIndex = getLogicIndex(each, actualTableName);
+            if (logicIndex.isPresent()) {
+                indexes.add(logicIndex.get());
+            }
+        }
+        return new TableMetaData(columns, indexes);
+    }
+    
     private TableMetaData createTableMetaData(final Connection connection, final String catalog, 
                                               final String logicTableName, final String actualTableName, final String generateKeyColumnName, final EncryptRule encryptRule) throws SQLException {
         if (isTableExist(connection, catalog, actualTableName)) {
@@ -0,0 +1,197 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.metadata;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.core.metadata.column.ColumnMetaData;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.zip.CRC32;
+
+/**
+ * Table meta data snapshot.
+ * 
+ * <p>
+ * Persist actual table meta data into local binary file, which is guarded by CRC32 checksum.
+ * Snapshot which cannot be read, is broken or is written by other version is ignored.
+ * </p>
+ */
+@RequiredArgsConstructor
+@Getter
+@Slf4j
+public final class TableMetaDataSnapshot {
+    
+    private static final int MAGIC_NUMBER = 0x53534D44;
+    
+    private static final int VERSION = 1;
+    
+    private static final String FILE_SUFFIX = ".metadata";
+    
+    private final File file;
+    
+    public TableMetaDataSnapshot(final String directory, final String schemaName) {
+        this(new File(directory, schemaName + FILE_SUFFIX));
+    }
+    
+    /**
+     * Read actual table meta data from snapshot.
+     *
+     * @return actual table meta data map, key is data source key, value is actual table meta data of the data source; empty if snapshot is unavailable
+     */
+    public Map<String, Map<String, ActualTableMetaData>> read() {
+        if (!file.isFile()) {
+            return new HashMap<>();
+        }
+        try (DataInputStream inputStream = new DataInputStream(new ByteArrayInputStream(Files.readAllBytes(file.toPath())))) {
+            if (MAGIC_NUMBER != inputStream.readInt() || VERSION != inputStream.readInt()) {
+                log.warn("Ignore table meta data snapshot `{}` with unknown format.", file);
+                return new HashMap<>();
+            }
+            long checksum = inputStream.readLong();
+            byte[] payload = new byte[inputStream.readInt()];
+            inputStream.readFully(payload);
+            if (checksum != getChecksum(payload)) {
+                log.warn("Ignore table meta data snapshot `{}` with mismatched checksum.", file);
+                return new HashMap<>();
+            }
+            return readPayload(new DataInputStream(new ByteArrayInputStream(payload)));
+        } catch (final IOException ex) {
+            log.warn("Cannot read table meta data snapshot `{}`: {}", file, ex.getMessage());
+            return new HashMap<>();
+        }
+    }
+    
+    private Map<String, Map<String, ActualTableMetaData>> readPayload(final DataInputStream inputStream) throws IOException {
+        int dataSourceCount = inputStream.readInt();
+        Map<String, Map<String, ActualTableMetaData>> result = new HashMap<>(dataSourceCount, 1);
+        for (int i = 0; i < dataSourceCount; i++) {
+            String dataSourceKey = inputStream.readUTF();
+            int tableCount = inputStream.readInt();
+            Map<String, ActualTableMetaData> tables = new HashMap<>(tableCount, 1);
+            for (int j = 0; j < tableCount; j++) {
+                tables.put(inputStream.readUTF(), readActualTableMetaData(inputStream));
+            }
+            result.put(dataSourceKey, tables);
+        }
+        return result;
+    }
+    
+    private ActualTableMetaData readActualTableMetaData(final DataInputStream inputStream) throws IOException {
+        int columnCount = inputStream.readInt();
+        Collection<ColumnMetaData> columns = new LinkedList<>();
+        for (int i = 0; i < columnCount; i++) {
+            String name = inputStream.readUTF();
+            String dataType = inputStream.readBoolean() ? inputStream.readUTF() : null;
+            columns.add(new ColumnMetaData(name, dataType, inputStream.readBoolean()));
+        }
+        int indexCount = inputStream.readInt();
+        Collection<String> indexes = new HashSet<>(indexCount, 1);
+        for (int i = 0; i < indexCount; i++) {
+            indexes.add(inputStream.readUTF());
+        }
+        return new ActualTableMetaData(columns, indexes);
+    }
+    
+    /**
+     * Write actual table meta data into snapshot.
+     * 
+     * <p>
+     * Snapshot is replaced atomically, failure of writing is logged only.
+     * </p>
+     *
+     * @param actualTableMetaDataMap actual table meta data map, key is data source key, value is actual table meta data of the data source
+     */
+    public void write(final Map<String, Map<String, ActualTableMetaData>> actualTableMetaDataMap) {
+        try {
+            byte[] payload = getPayload(actualTableMetaDataMap);
+            ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream(payload.length + 20);
+            try (DataOutputStream outputStream = new DataOutputStream(byteArrayOutputStream)) {
+                outputStream.writeInt(MAGIC_NUMBER);
+                outputStream.writeInt(VERSION);
+                outputStream.writeLong(getChecksum(payload));
+                outputStream.writeInt(payload.length);
+                outputStream.write(payload);
+            }
+            File parent = file.getAbsoluteFile().getParentFile();
+            Files.createDirectories(parent.toPath());
+            Path tempFile = Files.createTempFile(parent.toPath(), file.getName(), ".tmp");
+            try {
+                Files.write(tempFile, byteArrayOutputStream.toByteArray());
+                Files.move(tempFile, file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+        } catch (final IOException ex) {
+            log.warn("Cannot write table meta data snapshot `{}`: {}", file, ex.getMessage());
+        }
+    }
+    
+    private byte[] getPayload(final Map<String, Map<String, ActualTableMetaData>> actualTableMetaDataMap) throws IOException {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        try (DataOutputStream outputStream = new DataOutputStream(result)) {
+            outputStream.writeInt(actualTableMetaDataMap.size());
+            for (Entry<String, Map<String, ActualTableMetaData>> entry : actualTableMetaDataMap.entrySet()) {
+                outputStream.writeUTF(entry.getKey());
+                outputStream.writeInt(entry.getValue().size());
+                for (Entry<String, ActualTableMetaData> tableEntry : entry.getValue().entrySet()) {
+                    outputStream.writeUTF(tableEntry.getKey());
+                    writeActualTableMetaData(outputStream, tableEntry.getValue());
+                }
+            }
+        }
+        return result.toByteArray();
+    }
+    
+    private void writeActualTableMetaData(final DataOutputStream outputStream, final ActualTableMetaData actualTableMetaData) throws IOException {
+        outputStream.writeInt(actualTableMetaData.getColumns().size());
+        for (ColumnMetaData each : actualTableMetaData.getColumns()) {
+            outputStream.writeUTF(each.getName());
+            outputStream.writeBoolean(null != each.getDataType());
+            if (null != each.getDataType()) {
+                outputStream.writeUTF(each.getDataType());
+            }
+            outputStream.writeBoolean(each.isPrimaryKey());
+        }
+        outputStream.writeInt(actualTableMetaData.getIndexes().size());
+        for (String each : actualTableMetaData.getIndexes()) {
+            outputStream.writeUTF(each);
+        }
+    }
+    
+    private long getChecksum(final byte[] payload) {
+        CRC32 result = new CRC32();
+        result.update(payload);
+        return result.getValue();
+    }
+}
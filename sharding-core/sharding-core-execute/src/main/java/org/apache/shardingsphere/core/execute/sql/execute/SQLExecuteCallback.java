@@ -17,7 +17,10 @@
 
 package org.apache.shardingsphere.core.execute.sql.execute;
 
+import com.google.common.base.Optional;
+import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import org.apache.shardingsphere.core.constant.ConnectionMode;
 import org.apache.shardingsphere.core.execute.ShardingGroupExecuteCallback;
 import org.apache.shardingsphere.core.execute.StatementExecuteUnit;
@@ -25,12 +28,16 @@ import org.apache.shardingsphere.core.execute.hook.SPISQLExecutionHook;
 import org.apache.shardingsphere.core.execute.hook.SQLExecutionHook;
 import org.apache.shardingsphere.core.execute.sql.execute.threadlocal.ExecutorExceptionHandler;
 import org.apache.shardingsphere.core.route.RouteUnit;
+import org.apache.shardingsphere.core.rule.MasterSlaveRule;
+import org.apache.shardingsphere.core.strategy.masterslave.DataSourceLoadRecorder;
+import org.apache.shardingsphere.core.strategy.masterslave.DataSourceLoadStatistics;
 import org.apache.shardingsphere.spi.database.DataSourceMetaData;
 import org.apache.shardingsphere.spi.database.DatabaseType;
 
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.Map;
 
@@ -49,6 +56,9 @@ public abstract class SQLExecuteCallback<T> implements ShardingGroupExecuteCallb
     
     private final boolean isExceptionThrown;
     
+    @Setter(AccessLevel.PACKAGE)
+    private Collection<MasterSlaveRule> loadAwareMasterSlaveRules = Collections.emptyList();
+    
     @Override
     public final Collection<T> execute(final Collection<StatementExecuteUnit> statementExecuteUnits, final boolean isTrunkThread,
                                        final Map<String, Object> shardingExecuteDataMap) throws SQLException {
@@ -61,19 +71,38 @@ public abstract class SQLExecuteCallback<T> implements ShardingGroupExecuteCallb
     
     private T execute0(final StatementExecuteUnit statementExecuteUnit, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) throws SQLException {
         ExecutorExceptionHandler.setExceptionThrown(isExceptionThrown);
-        DataSourceMetaData dataSourceMetaData = databaseType.getDataSourceMetaData(statementExecuteUnit.getStatement().getConnection().getMetaData().getURL());
-        SQLExecutionHook sqlExecutionHook = new SPISQLExecutionHook();
+        DataSourceMetaData dataSourceMetaData = getDataSourceMetaData(statementExecuteUnit);
+        SQLExecutionHook sqlExecutionHook = SPISQLExecutionHook.newInstance();
+        DataSourceLoadRecorder loadRecorder = DataSourceLoadRecorder.newInstance(findLoadStatistics(statementExecuteUnit.getRouteUnit().getDataSourceName()));
         try {
             sqlExecutionHook.start(statementExecuteUnit.getRouteUnit(), dataSourceMetaData, isTrunkThread, shardingExecuteDataMap);
+            loadRecorder.start();
             T result = executeSQL(statementExecuteUnit.getRouteUnit(), statementExecuteUnit.getStatement(), statementExecuteUnit.getConnectionMode());
+            loadRecorder.finishSuccess();
             sqlExecutionHook.finishSuccess();
             return result;
         } catch (final SQLException ex) {
+            loadRecorder.finishFailure();
             sqlExecutionHook.finishFailure(ex);
             ExecutorExceptionHandler.handleException(ex);
             return null;
         }
     }
     
+    private Optional<DataSourceLoadStatistics> findLoadStatistics(final String dataSourceName) {
+        for (MasterSlaveRule each : loadAwareMasterSlaveRules) {
+            Optional<DataSourceLoadStatistics> result = each.findLoadStatistics(dataSourceName);
+            if (result.isPresent()) {
+                return result;
+            }
+        }
+        return Optional.absent();
+    }
+    
+    private DataSourceMetaData getDataSourceMetaData(final StatementExecuteUnit statementExecuteUnit) throws SQLException {
+        DataSourceMetaData result = statementExecuteUnit.getDataSourceMetaData();
+        return null == result ? databaseType.getDataSourceMetaData(statementExecuteUnit.getStatement().getConnection().getMetaData().getURL()) : result;
+    }
+    
     protected abstract T executeSQL(RouteUnit routeUnit, Statement statement, ConnectionMode connectionMode) throws SQLException;
 }
@@ -17,15 +17,16 @@
 
 package org.apache.shardingsphere.core.execute.sql.execute;
 
-import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.core.execute.ShardingExecuteEngine;
 import org.apache.shardingsphere.core.execute.ShardingExecuteGroup;
 import org.apache.shardingsphere.core.execute.StatementExecuteUnit;
 import org.apache.shardingsphere.core.execute.sql.execute.threadlocal.ExecutorExceptionHandler;
+import org.apache.shardingsphere.core.rule.MasterSlaveRule;
 
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedList;
 import java.util.List;
 
 /**
@@ -36,13 +37,34 @@ import java.util.List;
  * @author maxiaoguang
  * @author panjuan
  */
-@RequiredArgsConstructor
 public final class SQLExecuteTemplate {
     
     private final ShardingExecuteEngine executeEngine;
     
     private final boolean serial;
     
+    private final Collection<MasterSlaveRule> loadAwareMasterSlaveRules;
+    
+    public SQLExecuteTemplate(final ShardingExecuteEngine executeEngine, final boolean serial) {
+        this(executeEngine, serial, Collections.<MasterSlaveRule>emptyList());
+    }
+    
+    public SQLExecuteTemplate(final ShardingExecuteEngine executeEngine, final boolean serial, final Collection<MasterSlaveRule> masterSlaveRules) {
+        this.executeEngine = executeEngine;
+        this.serial = serial;
+        loadAwareMasterSlaveRules = getLoadAwareMasterSlaveRules(masterSlaveRules);
+    }
+    
+    private Collection<MasterSlaveRule> getLoadAwareMasterSlaveRules(final Collection<MasterSlaveRule> masterSlaveRules) {
+        Collection<MasterSlaveRule> result = new LinkedList<>();
+        for (MasterSlaveRule each : masterSlaveRules) {
+            if (each.isLoadAware()) {
+                result.add(each);
+            }
+        }
+        return result.isEmpty() ? Collections.<MasterSlaveRule>emptyList() : result;
+    }
+    
     /**
      * Execute group.
      *
@@ -69,6 +91,10 @@ public final class SQLExecuteTemplate {
     @SuppressWarnings("unchecked")
     public <T> List<T> executeGroup(final Collection<ShardingExecuteGroup<? extends StatementExecuteUnit>> sqlExecuteGroups,
                                     final SQLExecuteCallback<T> firstCallback, final SQLExecuteCallback<T> callback) throws SQLException {
+        if (null != firstCallback) {
+            firstCallback.setLoadAwareMasterSlaveRules(loadAwareMasterSlaveRules);
+        }
+        callback.setLoadAwareMasterSlaveRules(loadAwareMasterSlaveRules);
         try {
             return executeEngine.groupExecute((Collection) sqlExecuteGroups, firstCallback, callback, serial);
         } catch (final SQLException ex) {
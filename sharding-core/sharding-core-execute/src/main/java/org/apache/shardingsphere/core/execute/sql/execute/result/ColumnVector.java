@@ -0,0 +1,281 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.sql.execute.result;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Column vector for memory query result.
+ * 
+ * <p>
+ * Values are stored in chunks of {@code CHUNK_SIZE} rows, the first chunk grows from a small capacity for small results.
+ * Integral and floating point columns are kept in primitive arrays with a null bitmap.
+ * </p>
+ */
+abstract class ColumnVector {
+    
+    private static final int INITIAL_CHUNK_CAPACITY = 16;
+    
+    private static final int CHUNK_SHIFT = 10;
+    
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+    
+    private static final int REFERENCE_SIZE = 8;
+    
+    private final int elementSize;
+    
+    private int size;
+    
+    private int chunkCapacity;
+    
+    private long capacity;
+    
+    ColumnVector(final int elementSize) {
+        this.elementSize = elementSize;
+    }
+    
+    /**
+     * Create column vector by column type.
+     * 
+     * @param columnType SQL type from {@code java.sql.Types} of column
+     * @return column vector
+     */
+    static ColumnVector newInstance(final int columnType) {
+        switch (columnType) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+                return new IntColumnVector();
+            case Types.BIGINT:
+                return new LongColumnVector();
+            case Types.FLOAT:
+            case Types.DOUBLE:
+                return new DoubleColumnVector();
+            default:
+                return new ObjectColumnVector(columnType);
+        }
+    }
+    
+    /**
+     * Load value of current row from result set.
+     * 
+     * @param resultSet result set
+     * @param columnIndex column index
+     * @throws SQLException SQL exception
+     */
+    final void load(final ResultSet resultSet, final int columnIndex) throws SQLException {
+        int chunkIndex = size >>> CHUNK_SHIFT;
+        int chunkOffset = size & CHUNK_MASK;
+        if (0 == chunkOffset) {
+            chunkCapacity = 0 == chunkIndex ? INITIAL_CHUNK_CAPACITY : CHUNK_SIZE;
+            addChunk(chunkCapacity);
+            capacity += chunkCapacity;
+        } else if (chunkOffset == chunkCapacity) {
+            capacity += chunkCapacity;
+            chunkCapacity <<= 1;
+            growChunk(chunkIndex, chunkCapacity);
+        }
+        loadChunkValue(resultSet, columnIndex, chunkIndex, chunkOffset);
+        size++;
+    }
+    
+    /**
+     * Get value.
+     * 
+     * @param rowIndex row index, start from 0
+     * @return value
+     */
+    final Object getValue(final int rowIndex) {
+        return getChunkValue(rowIndex, rowIndex >>> CHUNK_SHIFT, rowIndex & CHUNK_MASK);
+    }
+    
+    /**
+     * Get estimated memory usage of column storage in bytes, objects referenced by column are not included.
+     * 
+     * @return estimated memory usage in bytes
+     */
+    long getMemoryUsage() {
+        return capacity * elementSize;
+    }
+    
+    protected abstract void addChunk(int chunkCapacity);
+    
+    protected abstract void growChunk(int chunkIndex, int chunkCapacity);
+    
+    protected abstract void loadChunkValue(ResultSet resultSet, int columnIndex, int chunkIndex, int chunkOffset) throws SQLException;
+    
+    protected abstract Object getChunkValue(int rowIndex, int chunkIndex, int chunkOffset);
+    
+    private abstract static class PrimitiveColumnVector extends ColumnVector {
+        
+        private final BitSet nulls = new BitSet();
+        
+        PrimitiveColumnVector(final int elementSize) {
+            super(elementSize);
+        }
+        
+        @Override
+        protected final void loadChunkValue(final ResultSet resultSet, final int columnIndex, final int chunkIndex, final int chunkOffset) throws SQLException {
+            loadPrimitive(resultSet, columnIndex, chunkIndex, chunkOffset);
+            if (resultSet.wasNull()) {
+                nulls.set((chunkIndex << CHUNK_SHIFT) + chunkOffset);
+            }
+        }
+        
+        @Override
+        protected final Object getChunkValue(final int rowIndex, final int chunkIndex, final int chunkOffset) {
+            return nulls.get(rowIndex) ? null : getPrimitiveValue(chunkIndex, chunkOffset);
+        }
+        
+        @Override
+        long getMemoryUsage() {
+            return super.getMemoryUsage() + nulls.size() / Byte.SIZE;
+        }
+        
+        protected abstract void loadPrimitive(ResultSet resultSet, int columnIndex, int chunkIndex, int chunkOffset) throws SQLException;
+        
+        protected abstract Object getPrimitiveValue(int chunkIndex, int chunkOffset);
+    }
+    
+    private static final class IntColumnVector extends PrimitiveColumnVector {
+        
+        private final List<int[]> chunks = new ArrayList<>();
+        
+        IntColumnVector() {
+            super(4);
+        }
+        
+        @Override
+        protected void addChunk(final int chunkCapacity) {
+            chunks.add(new int[chunkCapacity]);
+        }
+        
+        @Override
+        protected void growChunk(final int chunkIndex, final int chunkCapacity) {
+            chunks.set(chunkIndex, Arrays.copyOf(chunks.get(chunkIndex), chunkCapacity));
+        }
+        
+        @Override
+        protected void loadPrimitive(final ResultSet resultSet, final int columnIndex, final int chunkIndex, final int chunkOffset) throws SQLException {
+            chunks.get(chunkIndex)[chunkOffset] = resultSet.getInt(columnIndex);
+        }
+        
+        @Override
+        protected Object getPrimitiveValue(final int chunkIndex, final int chunkOffset) {
+            return chunks.get(chunkIndex)[chunkOffset];
+        }
+    }
+    
+    private static final class LongColumnVector extends PrimitiveColumnVector {
+        
+        private final List<long[]> chunks = new ArrayList<>();
+        
+        LongColumnVector() {
+            super(8);
+        }
+        
+        @Override
+        protected void addChunk(final int chunkCapacity) {
+            chunks.add(new long[chunkCapacity]);
+        }
+        
+        @Override
+        protected void growChunk(final int chunkIndex, final int chunkCapacity) {
+            chunks.set(chunkIndex, Arrays.copyOf(chunks.get(chunkIndex), chunkCapacity));
+        }
+        
+        @Override
+        protected void loadPrimitive(final ResultSet resultSet, final int columnIndex, final int chunkIndex, final int chunkOffset) throws SQLException {
+            chunks.get(chunkIndex)[chunkOffset] = resultSet.getLong(columnIndex);
+        }
+        
+        @Override
+        protected Object getPrimitiveValue(final int chunkIndex, final int chunkOffset) {
+            return chunks.get(chunkIndex)[chunkOffset];
+        }
+    }
+    
+    private static final class DoubleColumnVector extends PrimitiveColumnVector {
+        
+        private final List<double[]> chunks = new ArrayList<>();
+        
+        DoubleColumnVector() {
+            super(8);
+        }
+        
+        @Override
+        protected void addChunk(final int chunkCapacity) {
+            chunks.add(new double[chunkCapacity]);
+        }
+        
+        @Override
+        protected void growChunk(final int chunkIndex, final int chunkCapacity) {
+            chunks.set(chunkIndex, Arrays.copyOf(chunks.get(chunkIndex), chunkCapacity));
+        }
+        
+        @Override
+        protected void loadPrimitive(final ResultSet resultSet, final int columnIndex, final int chunkIndex, final int chunkOffset) throws SQLException {
+            chunks.get(chunkIndex)[chunkOffset] = resultSet.getDouble(columnIndex);
+        }
+        
+        @Override
+        protected Object getPrimitiveValue(final int chunkIndex, final int chunkOffset) {
+            return chunks.get(chunkIndex)[chunkOffset];
+        }
+    }
+    
+    private static final class ObjectColumnVector extends ColumnVector {
+        
+        private final int columnType;
+        
+        private final List<Object[]> chunks = new ArrayList<>();
+        
+        ObjectColumnVector(final int columnType) {
+            super(REFERENCE_SIZE);
+            this.columnType = columnType;
+        }
+        
+        @Override
+        protected void addChunk(final int chunkCapacity) {
+            chunks.add(new Object[chunkCapacity]);
+        }
+        
+        @Override
+        protected void growChunk(final int chunkIndex, final int chunkCapacity) {
+            chunks.set(chunkIndex, Arrays.copyOf(chunks.get(chunkIndex), chunkCapacity));
+        }
+        
+        @Override
+        protected void loadChunkValue(final ResultSet resultSet, final int columnIndex, final int chunkIndex, final int chunkOffset) throws SQLException {
+            chunks.get(chunkIndex)[chunkOffset] = QueryResultUtil.getValue(resultSet, columnIndex, columnType);
+        }
+        
+        @Override
+        protected Object getChunkValue(final int rowIndex, final int chunkIndex, final int chunkOffset) {
+            return chunks.get(chunkIndex)[chunkOffset];
+        }
+    }
+}
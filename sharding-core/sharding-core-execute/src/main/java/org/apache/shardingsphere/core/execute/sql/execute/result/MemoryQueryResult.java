@@ -21,7 +21,6 @@ import com.google.common.base.Optional;
 import lombok.Getter;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
-import org.apache.shardingsphere.core.execute.sql.execute.row.QueryRow;
 import org.apache.shardingsphere.core.rule.EncryptRule;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.apache.shardingsphere.spi.encrypt.ShardingEncryptor;
@@ -31,13 +30,9 @@ import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
 import java.io.ObjectOutputStream;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
-import java.util.ArrayList;
 import java.util.Calendar;
-import java.util.Collection;
-import java.util.Iterator;
-import java.util.LinkedList;
-import java.util.List;
 
 /**
  * Query result for memory loading.
@@ -48,78 +43,109 @@ import java.util.List;
  */
 public final class MemoryQueryResult implements QueryResult {
     
-    private final Iterator<QueryRow> resultData;
+    private final ColumnVector[] columnVectors;
+    
+    private final int rowCount;
+    
+    private int currentRowIndex = -1;
     
-    private QueryRow currentRow;
-
     @Getter
     private final QueryResultMetaData queryResultMetaData;
     
     public MemoryQueryResult(final ResultSet resultSet, final ShardingRule shardingRule, final ShardingProperties properties) throws SQLException {
-        resultData = getResultData(resultSet);
+        columnVectors = createColumnVectors(resultSet.getMetaData());
+        rowCount = loadResultData(resultSet);
         queryResultMetaData = new QueryResultMetaData(resultSet.getMetaData(), shardingRule, properties);
     }
     
     public MemoryQueryResult(final ResultSet resultSet, final EncryptRule encryptRule, final ShardingProperties properties) throws SQLException {
-        resultData = getResultData(resultSet);
+        columnVectors = createColumnVectors(resultSet.getMetaData());
+        rowCount = loadResultData(resultSet);
         queryResultMetaData = new QueryResultMetaData(resultSet.getMetaData(), encryptRule, properties);
     }
     
     public MemoryQueryResult(final ResultSet resultSet) throws SQLException {
-        resultData = getResultData(resultSet);
+        columnVectors = createColumnVectors(resultSet.getMetaData());
+        rowCount = loadResultData(resultSet);
         queryResultMetaData = new QueryResultMetaData(resultSet.getMetaData());
     }
         
-    private Iterator<QueryRow> getResultData(final ResultSet resultSet) throws SQLException {
-        Collection<QueryRow> result = new LinkedList<>();
+    private ColumnVector[] createColumnVectors(final ResultSetMetaData resultSetMetaData) throws SQLException {
+        ColumnVector[] result = new ColumnVector[resultSetMetaData.getColumnCount()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = ColumnVector.newInstance(resultSetMetaData.getColumnType(i + 1));
+        }
+        return result;
+    }
+    
+    private int loadResultData(final ResultSet resultSet) throws SQLException {
+        int result = 0;
         while (resultSet.next()) {
-            List<Object> rowData = new ArrayList<>(resultSet.getMetaData().getColumnCount());
-            for (int columnIndex = 1; columnIndex <= resultSet.getMetaData().getColumnCount(); columnIndex++) {
-                rowData.add(QueryResultUtil.getValue(resultSet, columnIndex));
+            for (int i = 0; i < columnVectors.length; i++) {
+                columnVectors[i].load(resultSet, i + 1);
             }
-            result.add(new QueryRow(rowData));
+            result++;
+        }
+        return result;
+    }
+    
+    /**
+     * Get estimated memory usage of loaded rows in bytes.
+     * 
+     * <p>
+     * Only column storage is counted, objects referenced by non-numeric columns are not included.
+     * </p>
+     * 
+     * @return estimated memory usage in bytes
+     */
+    public long getMemoryUsage() {
+        long result = 0L;
+        for (ColumnVector each : columnVectors) {
+            result += each.getMemoryUsage();
         }
-        return result.iterator();
+        return result;
     }
     
     @Override
     public boolean next() {
-        if (resultData.hasNext()) {
-            currentRow = resultData.next();
-            return true;
+        if (currentRowIndex < rowCount) {
+            currentRowIndex++;
         }
-        currentRow = null;
-        return false;
+        return currentRowIndex < rowCount;
+    }
+    
+    private Object getCurrentValue(final int columnIndex) {
+        return columnVectors[columnIndex - 1].getValue(currentRowIndex);
     }
     
     @Override
     public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
-        return decrypt(columnIndex, currentRow.getValue(columnIndex));
+        return decrypt(columnIndex, getCurrentValue(columnIndex));
     }
     
     @Override
     public Object getValue(final String columnLabel, final Class<?> type) throws SQLException {
-        return decrypt(columnLabel, currentRow.getValue(queryResultMetaData.getColumnIndex(columnLabel)));
+        return decrypt(columnLabel, getCurrentValue(queryResultMetaData.getColumnIndex(columnLabel)));
     }
     
     @Override
     public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
-        return currentRow.getValue(columnIndex);
+        return getCurrentValue(columnIndex);
     }
     
     @Override
     public Object getCalendarValue(final String columnLabel, final Class<?> type, final Calendar calendar) {
-        return currentRow.getValue(queryResultMetaData.getColumnIndex(columnLabel));
+        return getCurrentValue(queryResultMetaData.getColumnIndex(columnLabel));
     }
     
     @Override
     public InputStream getInputStream(final int columnIndex, final String type) {
-        return getInputStream(currentRow.getValue(columnIndex));
+        return getInputStream(getCurrentValue(columnIndex));
     }
     
     @Override
     public InputStream getInputStream(final String columnLabel, final String type) {
-        return getInputStream(currentRow.getValue(queryResultMetaData.getColumnIndex(columnLabel)));
+        return getInputStream(getCurrentValue(queryResultMetaData.getColumnIndex(columnLabel)));
     }
     
     @SneakyThrows
@@ -134,7 +160,7 @@ public final class MemoryQueryResult implements QueryResult {
     
     @Override
     public boolean wasNull() {
-        return null == currentRow;
+        return currentRowIndex < 0 || currentRowIndex >= rowCount;
     }
     
     @Override
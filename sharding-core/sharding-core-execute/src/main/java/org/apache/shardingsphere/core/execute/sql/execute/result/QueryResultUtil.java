@@ -25,7 +25,6 @@ import java.sql.Blob;
 import java.sql.Clob;
 import java.sql.Date;
 import java.sql.ResultSet;
-import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Time;
 import java.sql.Timestamp;
@@ -48,7 +47,20 @@ public final class QueryResultUtil {
      * @throws SQLException SQL exception
      */
     public static Object getValue(final ResultSet resultSet, final int columnIndex) throws SQLException {
-        Object result = getValueByColumnType(resultSet, columnIndex);
+        return getValue(resultSet, columnIndex, resultSet.getMetaData().getColumnType(columnIndex));
+    }
+    
+    /**
+     * Get value by column type.
+     *
+     * @param resultSet result set
+     * @param columnIndex column index of value
+     * @param columnType SQL type from {@code java.sql.Types} of column
+     * @return {@code null} if the column is SQL {@code NULL}, otherwise the value of column
+     * @throws SQLException SQL exception
+     */
+    public static Object getValue(final ResultSet resultSet, final int columnIndex, final int columnType) throws SQLException {
+        Object result = getValueByColumnType(resultSet, columnIndex, columnType);
         return resultSet.wasNull() ? null : result;
     }
     
@@ -97,9 +109,8 @@ public final class QueryResultUtil {
         }
     }
     
-    private static Object getValueByColumnType(final ResultSet resultSet, final int columnIndex) throws SQLException {
-        ResultSetMetaData metaData = resultSet.getMetaData();
-        switch (metaData.getColumnType(columnIndex)) {
+    private static Object getValueByColumnType(final ResultSet resultSet, final int columnIndex, final int columnType) throws SQLException {
+        switch (columnType) {
             case Types.BOOLEAN:
                 return resultSet.getBoolean(columnIndex);
             case Types.TINYINT:
@@ -22,8 +22,10 @@ import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.core.constant.ConnectionMode;
 import org.apache.shardingsphere.core.execute.ShardingExecuteGroup;
 import org.apache.shardingsphere.core.execute.StatementExecuteUnit;
+import org.apache.shardingsphere.core.metadata.datasource.DataSourceMetas;
 import org.apache.shardingsphere.core.route.RouteUnit;
 import org.apache.shardingsphere.core.route.SQLUnit;
+import org.apache.shardingsphere.spi.database.DataSourceMetaData;
 
 import java.sql.Connection;
 import java.sql.SQLException;
@@ -47,6 +49,12 @@ public final class SQLExecutePrepareTemplate {
     
     private final int maxConnectionsSizePerQuery;
     
+    private final DataSourceMetas dataSourceMetas;
+    
+    public SQLExecutePrepareTemplate(final int maxConnectionsSizePerQuery) {
+        this(maxConnectionsSizePerQuery, null);
+    }
+    
     /**
      * Get execute unit groups.
      *
@@ -87,18 +95,24 @@ public final class SQLExecutePrepareTemplate {
         List<List<SQLUnit>> sqlUnitPartitions = Lists.partition(sqlUnits, desiredPartitionSize);
         ConnectionMode connectionMode = maxConnectionsSizePerQuery < sqlUnits.size() ? ConnectionMode.CONNECTION_STRICTLY : ConnectionMode.MEMORY_STRICTLY;
         List<Connection> connections = callback.getConnections(connectionMode, dataSourceName, sqlUnitPartitions.size());
+        DataSourceMetaData dataSourceMetaData = null == dataSourceMetas ? null : dataSourceMetas.getDataSourceMetaData(dataSourceName);
         int count = 0;
         for (List<SQLUnit> each : sqlUnitPartitions) {
-            result.add(getSQLExecuteGroup(connectionMode, connections.get(count++), dataSourceName, each, callback));
+            result.add(getSQLExecuteGroup(connectionMode, connections.get(count++), dataSourceName, dataSourceMetaData, each, callback));
         }
         return result;
     }
     
-    private ShardingExecuteGroup<StatementExecuteUnit> getSQLExecuteGroup(final ConnectionMode connectionMode, final Connection connection, 
-                                                                          final String dataSourceName, final List<SQLUnit> sqlUnitGroup, final SQLExecutePrepareCallback callback) throws SQLException {
+    private ShardingExecuteGroup<StatementExecuteUnit> getSQLExecuteGroup(final ConnectionMode connectionMode, final Connection connection, final String dataSourceName, 
+                                                                          final DataSourceMetaData dataSourceMetaData, final List<SQLUnit> sqlUnitGroup, 
+                                                                          final SQLExecutePrepareCallback callback) throws SQLException {
         List<StatementExecuteUnit> result = new LinkedList<>();
         for (SQLUnit each : sqlUnitGroup) {
-            result.add(callback.createStatementExecuteUnit(connection, new RouteUnit(dataSourceName, each), connectionMode));
+            StatementExecuteUnit statementExecuteUnit = callback.createStatementExecuteUnit(connection, new RouteUnit(dataSourceName, each), connectionMode);
+            if (null != dataSourceMetaData) {
+                statementExecuteUnit.setDataSourceMetaData(dataSourceMetaData);
+            }
+            result.add(statementExecuteUnit);
         }
         return new ShardingExecuteGroup<>(result);
     }
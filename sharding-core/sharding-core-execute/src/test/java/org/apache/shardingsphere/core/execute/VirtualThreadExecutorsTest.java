@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute;
+
+import com.google.common.base.Optional;
+import org.junit.Test;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class VirtualThreadExecutorsTest {
+    
+    @Test
+    public void assertNewThreadFactory() throws ReflectiveOperationException {
+        Optional<ThreadFactory> actual = VirtualThreadExecutors.newThreadFactory("Test-%d");
+        assertThat(actual.isPresent(), is(VirtualThreadExecutors.isSupported()));
+        if (actual.isPresent()) {
+            Thread thread = actual.get().newThread(new Runnable() {
+                
+                @Override
+                public void run() {
+                }
+            });
+            assertThat(thread.getName(), is("ShardingSphere-Test-0"));
+            assertTrue((Boolean) Thread.class.getMethod("isVirtual").invoke(thread));
+        }
+    }
+    
+    @Test
+    public void assertNewThreadPerTaskExecutor() throws InterruptedException, ExecutionException {
+        Optional<ExecutorService> actual = VirtualThreadExecutors.newThreadPerTaskExecutor("Test-%d");
+        assertThat(actual.isPresent(), is(VirtualThreadExecutors.isSupported()));
+        if (actual.isPresent()) {
+            assertThat(actual.get().submit(new Callable<Integer>() {
+                
+                @Override
+                public Integer call() {
+                    return 1;
+                }
+            }).get(), is(1));
+            actual.get().shutdown();
+        }
+    }
+    
+    @Test
+    public void assertShardingExecutorServiceFallbackWithoutVirtualThreads() {
+        ShardingExecutorService actual = new ShardingExecutorService(1, true);
+        assertTrue(null != actual.getExecutorService());
+        actual.close();
+    }
+}
@@ -21,6 +21,9 @@ import org.apache.shardingsphere.core.execute.hook.fixture.RootInvokeHookFixture
 import org.junit.Before;
 import org.junit.Test;
 
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
 public final class SPIRootInvokeHookTest {
@@ -44,4 +47,9 @@ public final class SPIRootInvokeHookTest {
         spiRootInvokeHook.finish(0);
         assertTrue(RootInvokeHookFixture.containsAction("finish"));
     }
+    
+    @Test
+    public void assertNewInstanceWithRegisteredHook() {
+        assertThat(SPIRootInvokeHook.newInstance(), not(sameInstance(SPIRootInvokeHook.newInstance())));
+    }
 }
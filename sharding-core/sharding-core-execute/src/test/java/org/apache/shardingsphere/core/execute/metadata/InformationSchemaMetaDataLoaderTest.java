@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.metadata;
+
+import com.google.common.base.Optional;
+import org.apache.shardingsphere.core.metadata.column.ColumnMetaData;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class InformationSchemaMetaDataLoaderTest {
+    
+    @Test
+    public void assertLoadWithUnsupportedDatabase() throws SQLException {
+        Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        when(connection.getMetaData().getDatabaseProductName()).thenReturn("Oracle");
+        assertFalse(InformationSchemaMetaDataLoader.load(connection).isPresent());
+        verify(connection, never()).createStatement();
+    }
+    
+    @Test
+    public void assertLoadWithInaccessibleInformationSchema() throws SQLException {
+        Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        when(connection.getMetaData().getDatabaseProductName()).thenReturn("MySQL");
+        when(connection.createStatement()).thenThrow(new SQLException("access denied"));
+        assertFalse(InformationSchemaMetaDataLoader.load(connection).isPresent());
+    }
+    
+    @Test
+    public void assertLoad() throws SQLException {
+        Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        when(connection.getMetaData().getDatabaseProductName()).thenReturn("H2");
+        ResultSet columnsResultSet = mockColumnsResultSet();
+        ResultSet indexesResultSet = mockIndexesResultSet();
+        Statement columnsStatement = mock(Statement.class);
+        when(columnsStatement.executeQuery(InformationSchemaDialect.H2.getColumnsSQL())).thenReturn(columnsResultSet);
+        Statement indexesStatement = mock(Statement.class);
+        when(indexesStatement.executeQuery(InformationSchemaDialect.H2.getIndexesSQL())).thenReturn(indexesResultSet);
+        when(connection.createStatement()).thenReturn(columnsStatement, indexesStatement);
+        Optional<Map<String, ActualTableMetaData>> actual = InformationSchemaMetaDataLoader.load(connection);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().size(), is(2));
+        assertThat(actual.get().get("T_ORDER_0").getColumns(), 
+                is((Object) Arrays.asList(new ColumnMetaData("ORDER_ID", "INTEGER", true), new ColumnMetaData("USER_ID", "INTEGER", false))));
+        assertThat(actual.get().get("T_ORDER_0").getIndexes(), is((Object) Collections.singleton("ORDER_INDEX_T_ORDER_0")));
+        assertThat(actual.get().get("T_USER").getColumns(), is((Object) Collections.singletonList(new ColumnMetaData("USER_ID", "INTEGER", false))));
+        assertTrue(actual.get().get("T_USER").getIndexes().isEmpty());
+        verify(columnsResultSet).close();
+        verify(indexesResultSet).close();
+    }
+    
+    private ResultSet mockColumnsResultSet() throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        when(result.next()).thenReturn(true, true, true, false);
+        when(result.getString("TABLE_NAME")).thenReturn("T_ORDER_0", "T_ORDER_0", "T_USER");
+        when(result.getString("COLUMN_NAME")).thenReturn("ORDER_ID", "USER_ID", "USER_ID");
+        when(result.getString("TYPE_NAME")).thenReturn("INTEGER");
+        when(result.getBoolean("IS_PRIMARY_KEY")).thenReturn(true, false, false);
+        return result;
+    }
+    
+    private ResultSet mockIndexesResultSet() throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        when(result.next()).thenReturn(true, false);
+        when(result.getString("TABLE_NAME")).thenReturn("T_ORDER_0");
+        when(result.getString("INDEX_NAME")).thenReturn("ORDER_INDEX_T_ORDER_0");
+        return result;
+    }
+}
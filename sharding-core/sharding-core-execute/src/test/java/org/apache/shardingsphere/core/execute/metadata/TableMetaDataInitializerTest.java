@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.metadata;
+
+import org.apache.shardingsphere.api.config.sharding.ShardingRuleConfiguration;
+import org.apache.shardingsphere.api.config.sharding.TableRuleConfiguration;
+import org.apache.shardingsphere.core.execute.ShardingExecuteEngine;
+import org.apache.shardingsphere.core.metadata.column.ColumnMetaData;
+import org.apache.shardingsphere.core.metadata.datasource.DataSourceMetas;
+import org.apache.shardingsphere.core.metadata.table.TableMetaData;
+import org.apache.shardingsphere.core.metadata.table.TableMetas;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class TableMetaDataInitializerTest {
+    
+    private final ShardingExecuteEngine executeEngine = new ShardingExecuteEngine(1);
+    
+    private final TableMetaData orderTableMetaData = createTableMetaData();
+    
+    private final TableMetaData userTableMetaData = createTableMetaData();
+    
+    private Connection connection;
+    
+    private TableMetaDataInitializer tableMetaDataInitializer;
+    
+    @Before
+    public void setUp() throws SQLException {
+        connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        when(connection.getMetaData().getDatabaseProductName()).thenReturn("Oracle");
+        TableMetaDataConnectionManager connectionManager = mock(TableMetaDataConnectionManager.class);
+        when(connectionManager.getConnection(anyString())).thenReturn(connection);
+        tableMetaDataInitializer = new TableMetaDataInitializer(mock(DataSourceMetas.class), executeEngine, connectionManager, 1, false);
+    }
+    
+    @After
+    public void tearDown() {
+        executeEngine.close();
+    }
+    
+    @Test
+    public void assertRenewWithUnchangedTable() throws SQLException {
+        ShardingRule previousShardingRule = createShardingRule(null, new TableRuleConfiguration("t_order", "ds_0.t_order_${0..1}"));
+        ShardingRule shardingRule = createShardingRule(null, new TableRuleConfiguration("t_order", "ds_0.t_order_${0..1}"));
+        TableMetas actual = tableMetaDataInitializer.renew(createTableMetas("t_order"), previousShardingRule, shardingRule);
+        assertThat(actual.get("t_order"), sameInstance(orderTableMetaData));
+    }
+    
+    @Test
+    public void assertRenewWithChangedTable() throws SQLException {
+        ShardingRule previousShardingRule = createShardingRule(null, new TableRuleConfiguration("t_order", "ds_0.t_order_${0..1}"));
+        ShardingRule shardingRule = createShardingRule(null, new TableRuleConfiguration("t_order", "ds_${0..1}.t_order_${0..1}"));
+        TableMetas actual = tableMetaDataInitializer.renew(createTableMetas("t_order"), previousShardingRule, shardingRule);
+        assertTrue(actual.containsTable("t_order"));
+        assertThat(actual.get("t_order"), not(sameInstance(orderTableMetaData)));
+    }
+    
+    @Test
+    public void assertRenewWithAddedTable() throws SQLException {
+        ShardingRule previousShardingRule = createShardingRule(null, new TableRuleConfiguration("t_order", "ds_0.t_order_${0..1}"));
+        ShardingRule shardingRule = createShardingRule(null, new TableRuleConfiguration("t_order", "ds_0.t_order_${0..1}"), new TableRuleConfiguration("t_user", "ds_1.t_user"));
+        TableMetas actual = tableMetaDataInitializer.renew(createTableMetas("t_order"), previousShardingRule, shardingRule);
+        assertThat(actual.get("t_order"), sameInstance(orderTableMetaData));
+        assertTrue(actual.containsTable("t_user"));
+    }
+    
+    @Test
+    public void assertRenewWithRemovedTable() throws SQLException {
+        ShardingRule previousShardingRule = createShardingRule(null, new TableRuleConfiguration("t_order", "ds_0.t_order_${0..1}"), new TableRuleConfiguration("t_user", "ds_1.t_user"));
+        ShardingRule shardingRule = createShardingRule(null, new TableRuleConfiguration("t_order", "ds_0.t_order_${0..1}"));
+        TableMetas actual = tableMetaDataInitializer.renew(createTableMetas("t_order", "t_user"), previousShardingRule, shardingRule);
+        assertThat(actual.get("t_order"), sameInstance(orderTableMetaData));
+        assertFalse(actual.containsTable("t_user"));
+    }
+    
+    @Test
+    public void assertRenewWithDefaultDataSourceTables() throws SQLException {
+        ResultSet tablesResultSet = mock(ResultSet.class);
+        when(tablesResultSet.next()).thenReturn(true, true, false);
+        when(tablesResultSet.getString("TABLE_NAME")).thenReturn("t_user", "t_config");
+        when(connection.getMetaData().getTables(null, null, null, new String[]{"TABLE"})).thenReturn(tablesResultSet);
+        ShardingRule previousShardingRule = createShardingRule("ds_1", new TableRuleConfiguration("t_order", "ds_0.t_order_${0..1}"));
+        ShardingRule shardingRule = createShardingRule("ds_1", new TableRuleConfiguration("t_order", "ds_${0..1}.t_order_${0..1}"));
+        TableMetas actual = tableMetaDataInitializer.renew(createTableMetas("t_order", "t_user", "t_log"), previousShardingRule, shardingRule);
+        assertThat(actual.get("t_order"), not(sameInstance(orderTableMetaData)));
+        assertThat(actual.get("t_user"), sameInstance(userTableMetaData));
+        assertTrue(actual.containsTable("t_config"));
+        assertFalse(actual.containsTable("t_log"));
+    }
+    
+    @Test
+    public void assertWaitSnapshotVerificationWithoutSnapshot() {
+        tableMetaDataInitializer.waitSnapshotVerification();
+    }
+    
+    @Test
+    public void assertLoadWithSnapshotAndWaitSnapshotVerification() throws SQLException, IOException {
+        File file = File.createTempFile("table_meta_data_snapshot", ".metadata");
+        try {
+            TableMetaDataSnapshot snapshot = new TableMetaDataSnapshot(file);
+            snapshot.write(Collections.singletonMap("ds_0", Collections.singletonMap("t_order_0", new ActualTableMetaData(
+                    Collections.singletonList(new ColumnMetaData("order_id", "INT", true)), Collections.<String>emptySet()))));
+            TableMetas actual = tableMetaDataInitializer.load(createShardingRule(null, new TableRuleConfiguration("t_order", "ds_0.t_order_0")), snapshot);
+            tableMetaDataInitializer.waitSnapshotVerification();
+            assertTrue(actual.get("t_order").getColumns().containsKey("order_id"));
+            assertTrue(snapshot.read().isEmpty());
+        } finally {
+            file.delete();
+        }
+    }
+    
+    private ShardingRule createShardingRule(final String defaultDataSourceName, final TableRuleConfiguration... tableRuleConfigs) {
+        ShardingRuleConfiguration result = new ShardingRuleConfiguration();
+        result.setDefaultDataSourceName(defaultDataSourceName);
+        result.getTableRuleConfigs().addAll(Arrays.asList(tableRuleConfigs));
+        return new ShardingRule(result, Arrays.asList("ds_0", "ds_1"));
+    }
+    
+    private TableMetas createTableMetas(final String... logicTableNames) {
+        Map<String, TableMetaData> tables = new HashMap<>(logicTableNames.length, 1);
+        for (String each : logicTableNames) {
+            tables.put(each, "t_user".equals(each) ? userTableMetaData : "t_order".equals(each) ? orderTableMetaData : createTableMetaData());
+        }
+        return new TableMetas(tables);
+    }
+    
+    private static TableMetaData createTableMetaData() {
+        return new TableMetaData(Collections.singletonList(new ColumnMetaData("id", "INT", true)), Collections.<String>emptySet());
+    }
+}
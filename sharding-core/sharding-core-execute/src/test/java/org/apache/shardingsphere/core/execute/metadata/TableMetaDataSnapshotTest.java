@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.metadata;
+
+import org.apache.shardingsphere.core.metadata.column.ColumnMetaData;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class TableMetaDataSnapshotTest {
+    
+    private File file;
+    
+    @Before
+    public void setUp() throws IOException {
+        file = File.createTempFile("table_meta_data_snapshot", ".metadata");
+        assertTrue(file.delete());
+    }
+    
+    @After
+    public void tearDown() {
+        file.delete();
+    }
+    
+    @Test
+    public void assertReadWithoutFile() {
+        assertTrue(new TableMetaDataSnapshot(file).read().isEmpty());
+    }
+    
+    @Test
+    public void assertWriteAndRead() {
+        Map<String, Map<String, ActualTableMetaData>> expected = createActualTableMetaDataMap();
+        new TableMetaDataSnapshot(file).write(expected);
+        assertThat(new TableMetaDataSnapshot(file).read(), is(expected));
+    }
+    
+    @Test
+    public void assertReadWithBrokenFile() throws IOException {
+        new TableMetaDataSnapshot(file).write(createActualTableMetaDataMap());
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw")) {
+            randomAccessFile.seek(randomAccessFile.length() - 1);
+            int lastByte = randomAccessFile.read();
+            randomAccessFile.seek(randomAccessFile.length() - 1);
+            randomAccessFile.write(lastByte ^ 0xFF);
+        }
+        assertTrue(new TableMetaDataSnapshot(file).read().isEmpty());
+    }
+    
+    @Test
+    public void assertReadWithTruncatedFile() throws IOException {
+        new TableMetaDataSnapshot(file).write(createActualTableMetaDataMap());
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw")) {
+            randomAccessFile.setLength(randomAccessFile.length() / 2);
+        }
+        assertTrue(new TableMetaDataSnapshot(file).read().isEmpty());
+    }
+    
+    private Map<String, Map<String, ActualTableMetaData>> createActualTableMetaDataMap() {
+        Map<String, ActualTableMetaData> tables = new HashMap<>(2, 1);
+        tables.put("t_order_0", new ActualTableMetaData(
+                Arrays.asList(new ColumnMetaData("order_id", "INT", true), new ColumnMetaData("status", null, false)), Collections.singleton("status_idx_t_order_0")));
+        tables.put("t_config", new ActualTableMetaData(Collections.singletonList(new ColumnMetaData("id", "BIGINT", true)), Collections.<String>emptySet()));
+        return Collections.singletonMap("ds_0@127.0.0.1:3306/demo_ds_0", tables);
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.sql.execute;
+
+import org.apache.shardingsphere.core.constant.ConnectionMode;
+import org.apache.shardingsphere.core.execute.ShardingExecuteEngine;
+import org.apache.shardingsphere.core.execute.ShardingExecuteGroup;
+import org.apache.shardingsphere.core.execute.StatementExecuteUnit;
+import org.apache.shardingsphere.core.route.RouteUnit;
+import org.apache.shardingsphere.core.route.SQLUnit;
+import org.apache.shardingsphere.core.rule.MasterSlaveRule;
+import org.apache.shardingsphere.core.strategy.masterslave.DataSourceLoadStatistics;
+import org.apache.shardingsphere.core.strategy.masterslave.LatencyAwareMasterSlaveLoadBalanceAlgorithm;
+import org.apache.shardingsphere.spi.database.DataSourceMetaData;
+import org.apache.shardingsphere.spi.database.DatabaseType;
+import org.junit.After;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class SQLExecuteTemplateTest {
+    
+    private static final String URL = "jdbc:mysql://127.0.0.1:3306/ds_0";
+    
+    private final ShardingExecuteEngine executeEngine = new ShardingExecuteEngine(1);
+    
+    @After
+    public void tearDown() {
+        executeEngine.close();
+    }
+    
+    @Test
+    public void assertExecuteGroupWithDataSourceMetaDataOfExecuteUnit() throws SQLException {
+        DatabaseType databaseType = mock(DatabaseType.class);
+        Collection<ShardingExecuteGroup<? extends StatementExecuteUnit>> executeGroups = createExecuteGroups();
+        executeGroups.iterator().next().getInputs().get(0).setDataSourceMetaData(mock(DataSourceMetaData.class));
+        assertThat(new SQLExecuteTemplate(executeEngine, true).executeGroup(executeGroups, createCallback(databaseType)), is(Collections.singletonList("ds_0")));
+        verify(databaseType, never()).getDataSourceMetaData(URL);
+    }
+    
+    @Test
+    public void assertExecuteGroupWithoutDataSourceMetaDataOfExecuteUnit() throws SQLException {
+        DatabaseType databaseType = mock(DatabaseType.class);
+        when(databaseType.getDataSourceMetaData(URL)).thenReturn(mock(DataSourceMetaData.class));
+        assertThat(new SQLExecuteTemplate(executeEngine, true).executeGroup(createExecuteGroups(), createCallback(databaseType)), is(Collections.singletonList("ds_0")));
+        verify(databaseType, times(1)).getDataSourceMetaData(URL);
+    }
+    
+    @Test
+    public void assertExecuteGroupRecordsLoadStatistics() throws SQLException {
+        DatabaseType databaseType = mock(DatabaseType.class);
+        when(databaseType.getDataSourceMetaData(URL)).thenReturn(mock(DataSourceMetaData.class));
+        MasterSlaveRule masterSlaveRule = new MasterSlaveRule("ms_ds", "master_ds", Collections.singletonList("ds_0"), new LatencyAwareMasterSlaveLoadBalanceAlgorithm());
+        new SQLExecuteTemplate(executeEngine, true, Collections.singletonList(masterSlaveRule)).executeGroup(createExecuteGroups(), createCallback(databaseType));
+        DataSourceLoadStatistics actual = masterSlaveRule.findLoadStatistics("ds_0").get();
+        assertTrue(actual.getLatencyNanos() > 0L);
+        assertThat(actual.getOutstandingRequests(), is(0));
+    }
+    
+    private Collection<ShardingExecuteGroup<? extends StatementExecuteUnit>> createExecuteGroups() throws SQLException {
+        Statement statement = mock(Statement.class, RETURNS_DEEP_STUBS);
+        when(statement.getConnection().getMetaData().getURL()).thenReturn(URL);
+        RouteUnit routeUnit = new RouteUnit("ds_0", new SQLUnit("SELECT 1", Collections.emptyList()));
+        List<StatementExecuteUnit> inputs = Collections.singletonList(new StatementExecuteUnit(routeUnit, statement, ConnectionMode.MEMORY_STRICTLY));
+        Collection<ShardingExecuteGroup<? extends StatementExecuteUnit>> result = new LinkedList<>();
+        result.add(new ShardingExecuteGroup<>(inputs));
+        return result;
+    }
+    
+    private SQLExecuteCallback<String> createCallback(final DatabaseType databaseType) {
+        return new SQLExecuteCallback<String>(databaseType, true) {
+            
+            @Override
+            protected String executeSQL(final RouteUnit routeUnit, final Statement statement, final ConnectionMode connectionMode) {
+                return routeUnit.getDataSourceName();
+            }
+        };
+    }
+}
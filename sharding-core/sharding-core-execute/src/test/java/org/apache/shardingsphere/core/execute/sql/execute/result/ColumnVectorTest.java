@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.execute.sql.execute.result;
+
+import org.junit.Test;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class ColumnVectorTest {
+    
+    @Test
+    public void assertLoadAndGetIntValuesAcrossChunks() throws SQLException {
+        ColumnVector columnVector = ColumnVector.newInstance(Types.INTEGER);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.wasNull()).thenReturn(false);
+        for (int i = 0; i < 3000; i++) {
+            when(resultSet.getInt(1)).thenReturn(i);
+            columnVector.load(resultSet, 1);
+        }
+        assertThat(columnVector.getValue(0), is((Object) 0));
+        assertThat(columnVector.getValue(1023), is((Object) 1023));
+        assertThat(columnVector.getValue(1024), is((Object) 1024));
+        assertThat(columnVector.getValue(2999), is((Object) 2999));
+        assertThat(columnVector.getMemoryUsage() >= 3000 * 4, is(true));
+    }
+    
+    @Test
+    public void assertLoadAndGetNullLongValue() throws SQLException {
+        ColumnVector columnVector = ColumnVector.newInstance(Types.BIGINT);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getLong(1)).thenReturn(1L, 0L);
+        when(resultSet.wasNull()).thenReturn(false, true);
+        columnVector.load(resultSet, 1);
+        columnVector.load(resultSet, 1);
+        assertThat(columnVector.getValue(0), is((Object) 1L));
+        assertThat(columnVector.getValue(1), nullValue());
+    }
+    
+    @Test
+    public void assertLoadAndGetObjectValue() throws SQLException {
+        ColumnVector columnVector = ColumnVector.newInstance(Types.VARCHAR);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getString(1)).thenReturn("foo");
+        when(resultSet.wasNull()).thenReturn(false);
+        columnVector.load(resultSet, 1);
+        assertThat(columnVector.getValue(0), is((Object) "foo"));
+        assertThat(columnVector.getMemoryUsage(), is(16L * 8));
+    }
+}
@@ -20,24 +20,32 @@ package org.apache.shardingsphere.core.execute.sql.prepare;
 import org.apache.shardingsphere.core.constant.ConnectionMode;
 import org.apache.shardingsphere.core.execute.ShardingExecuteGroup;
 import org.apache.shardingsphere.core.execute.StatementExecuteUnit;
+import org.apache.shardingsphere.core.metadata.datasource.DataSourceMetas;
 import org.apache.shardingsphere.core.route.RouteUnit;
 import org.apache.shardingsphere.core.route.SQLUnit;
+import org.apache.shardingsphere.spi.database.DataSourceMetaData;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -70,6 +78,27 @@ public final class SQLExecutePrepareTemplateTest {
         }
     }
     
+    @Test
+    public void assertGetExecuteUnitGroupWithDataSourceMetas() throws SQLException {
+        mockConnections(callback, ConnectionMode.CONNECTION_STRICTLY, 1);
+        when(callback.createStatementExecuteUnit(any(Connection.class), any(RouteUnit.class), eq(ConnectionMode.CONNECTION_STRICTLY))).thenAnswer(new Answer<StatementExecuteUnit>() {
+            
+            @Override
+            public StatementExecuteUnit answer(final InvocationOnMock invocation) {
+                return new StatementExecuteUnit((RouteUnit) invocation.getArguments()[1], mock(Statement.class), ConnectionMode.CONNECTION_STRICTLY);
+            }
+        });
+        DataSourceMetas dataSourceMetas = mock(DataSourceMetas.class);
+        DataSourceMetaData dataSourceMetaData = mock(DataSourceMetaData.class);
+        when(dataSourceMetas.getDataSourceMetaData("ds_0")).thenReturn(dataSourceMetaData);
+        sqlExecutePrepareTemplate = new SQLExecutePrepareTemplate(1, dataSourceMetas);
+        Collection<ShardingExecuteGroup<StatementExecuteUnit>> actual = sqlExecutePrepareTemplate.getExecuteUnitGroups(mockShardRouteUnit(1, 2), callback);
+        for (StatementExecuteUnit each : actual.iterator().next().getInputs()) {
+            assertThat(each.getDataSourceMetaData(), is(dataSourceMetaData));
+        }
+        verify(dataSourceMetas, times(1)).getDataSourceMetaData("ds_0");
+    }
+    
     private void mockConnections(final SQLExecutePrepareCallback callback, final ConnectionMode connectionMode, final int size) throws SQLException {
         List<Connection> connections = new ArrayList<>(size);
         for (int i = 0; i < size; i++) {
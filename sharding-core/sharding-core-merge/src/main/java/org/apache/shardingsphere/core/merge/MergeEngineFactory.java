@@ -19,6 +19,8 @@ package org.apache.shardingsphere.core.merge;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
 import org.apache.shardingsphere.core.merge.dal.DALMergeEngine;
 import org.apache.shardingsphere.core.merge.dql.DQLMergeEngine;
@@ -49,13 +51,15 @@ public final class MergeEngineFactory {
      * @param routeResult SQL route result
      * @param tableMetas sharding table meta Data
      * @param queryResults query results
+     * @param properties sharding properties
      * @return merge engine instance
      * @throws SQLException SQL exception
      */
     public static MergeEngine newInstance(final DatabaseType databaseType, final ShardingRule shardingRule,
-                                          final SQLRouteResult routeResult, final TableMetas tableMetas, final List<QueryResult> queryResults) throws SQLException {
+                                          final SQLRouteResult routeResult, final TableMetas tableMetas, 
+                                          final List<QueryResult> queryResults, final ShardingProperties properties) throws SQLException {
         if (routeResult.getSqlStatementContext() instanceof SelectSQLStatementContext) {
-            return new DQLMergeEngine(databaseType, tableMetas, routeResult, queryResults);
+            return new DQLMergeEngine(databaseType, tableMetas, routeResult, queryResults, properties.<Integer>getValue(ShardingPropertiesConstant.MAX_GROUP_BY_MEMORY_ROWS));
         } 
         if (routeResult.getSqlStatementContext().getSqlStatement() instanceof DALStatement) {
             return new DALMergeEngine(shardingRule, queryResults, routeResult.getSqlStatementContext(), tableMetas);
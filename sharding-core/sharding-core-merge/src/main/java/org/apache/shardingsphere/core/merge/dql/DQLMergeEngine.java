@@ -62,14 +62,22 @@ public final class DQLMergeEngine implements MergeEngine {
     
     private final List<QueryResult> queryResults;
     
+    private final int maxGroupByMemoryRows;
+    
     @Getter
     private final Map<String, Integer> columnLabelIndexMap;
     
     public DQLMergeEngine(final DatabaseType databaseType, final TableMetas tableMetas, final SQLRouteResult routeResult, final List<QueryResult> queryResults) throws SQLException {
+        this(databaseType, tableMetas, routeResult, queryResults, 0);
+    }
+    
+    public DQLMergeEngine(final DatabaseType databaseType, final TableMetas tableMetas, 
+                          final SQLRouteResult routeResult, final List<QueryResult> queryResults, final int maxGroupByMemoryRows) throws SQLException {
         this.databaseType = databaseType;
         this.routeResult = routeResult;
         this.selectSQLStatementContext = (SelectSQLStatementContext) routeResult.getSqlStatementContext();
         this.queryResults = getRealQueryResults(tableMetas, queryResults);
+        this.maxGroupByMemoryRows = maxGroupByMemoryRows;
         columnLabelIndexMap = getColumnLabelIndexMap(this.queryResults.get(0));
     }
     
@@ -132,7 +140,7 @@ public final class DQLMergeEngine implements MergeEngine {
     private MergedResult getGroupByMergedResult() throws SQLException {
         return selectSQLStatementContext.isSameGroupByAndOrderByItems()
                 ? new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, selectSQLStatementContext)
-                : new GroupByMemoryMergedResult(columnLabelIndexMap, queryResults, selectSQLStatementContext);
+                : new GroupByMemoryMergedResult(columnLabelIndexMap, queryResults, selectSQLStatementContext, maxGroupByMemoryRows);
     }
     
     private MergedResult decorate(final MergedResult mergedResult) throws SQLException {
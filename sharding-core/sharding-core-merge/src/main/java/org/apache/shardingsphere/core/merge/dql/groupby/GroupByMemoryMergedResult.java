@@ -17,10 +17,12 @@
 
 package org.apache.shardingsphere.core.merge.dql.groupby;
 
-import com.google.common.base.Function;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
-import com.google.common.collect.Maps;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import org.apache.shardingsphere.core.exception.ShardingException;
 import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
 import org.apache.shardingsphere.core.merge.dql.common.MemoryMergedResult;
 import org.apache.shardingsphere.core.merge.dql.common.MemoryQueryResultRow;
@@ -31,12 +33,12 @@ import org.apache.shardingsphere.core.preprocessor.statement.impl.SelectSQLState
 
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 
 /**
  * Memory merged result for group by.
@@ -48,63 +50,76 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult {
     
     private final SelectSQLStatementContext selectSQLStatementContext;
     
+    private final int maxRows;
+    
     private final Iterator<MemoryQueryResultRow> memoryResultSetRows;
     
     public GroupByMemoryMergedResult(
             final Map<String, Integer> labelAndIndexMap, final List<QueryResult> queryResults, final SelectSQLStatementContext selectSQLStatementContext) throws SQLException {
+        this(labelAndIndexMap, queryResults, selectSQLStatementContext, 0);
+    }
+    
+    public GroupByMemoryMergedResult(final Map<String, Integer> labelAndIndexMap, 
+                                     final List<QueryResult> queryResults, final SelectSQLStatementContext selectSQLStatementContext, final int maxRows) throws SQLException {
         super(labelAndIndexMap);
         this.selectSQLStatementContext = selectSQLStatementContext;
+        this.maxRows = maxRows;
         memoryResultSetRows = init(queryResults);
     }
     
     private Iterator<MemoryQueryResultRow> init(final List<QueryResult> queryResults) throws SQLException {
-        Map<GroupByValue, MemoryQueryResultRow> dataMap = new HashMap<>(1024);
-        Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap = new HashMap<>(1024);
+        List<AggregationProjection> aggregationProjections = selectSQLStatementContext.getProjectionsContext().getAggregationProjections();
+        Map<GroupByValue, GroupByMemoryRow> dataMap = new HashMap<>(1024);
+        List<Comparable<?>> aggregationValues = new ArrayList<>(2);
         for (QueryResult each : queryResults) {
             while (each.next()) {
                 GroupByValue groupByValue = new GroupByValue(each, selectSQLStatementContext.getGroupByContext().getItems());
-                initForFirstGroupByValue(each, groupByValue, dataMap, aggregationMap);
-                aggregate(each, groupByValue, aggregationMap);
+                GroupByMemoryRow groupByMemoryRow = dataMap.get(groupByValue);
+                if (null == groupByMemoryRow) {
+                    checkMaxRows(dataMap.size());
+                    groupByMemoryRow = new GroupByMemoryRow(new MemoryQueryResultRow(each), createAggregationUnits(aggregationProjections));
+                    dataMap.put(groupByValue, groupByMemoryRow);
+                }
+                aggregate(each, aggregationProjections, groupByMemoryRow.getAggregationUnits(), aggregationValues);
             }
         }
-        setAggregationValueToMemoryRow(dataMap, aggregationMap);
         List<Boolean> valueCaseSensitive = queryResults.isEmpty() ? Collections.<Boolean>emptyList() : getValueCaseSensitive(queryResults.iterator().next());
-        List<MemoryQueryResultRow> result = getMemoryResultSetRows(dataMap, valueCaseSensitive);
+        List<MemoryQueryResultRow> result = getMemoryResultSetRows(dataMap.values(), aggregationProjections, valueCaseSensitive);
         if (!result.isEmpty()) {
             setCurrentResultSetRow(result.get(0));
         }
         return result.iterator();
     }
     
-    private void initForFirstGroupByValue(final QueryResult queryResult, final GroupByValue groupByValue, final Map<GroupByValue, MemoryQueryResultRow> dataMap,
-                                          final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap) throws SQLException {
-        if (!dataMap.containsKey(groupByValue)) {
-            dataMap.put(groupByValue, new MemoryQueryResultRow(queryResult));
+    private void checkMaxRows(final int currentRows) {
+        if (maxRows > 0 && currentRows >= maxRows) {
+            throw new ShardingException("Group by rows merged in memory exceed %d, please use same group by and order by items or increase `%s`.", 
+                    maxRows, ShardingPropertiesConstant.MAX_GROUP_BY_MEMORY_ROWS.getKey());
         }
-        if (!aggregationMap.containsKey(groupByValue)) {
-            Map<AggregationProjection, AggregationUnit> map = Maps.toMap(
-                    selectSQLStatementContext.getProjectionsContext().getAggregationProjections(), new Function<AggregationProjection, AggregationUnit>() {
-                        
-                        @Override
-                        public AggregationUnit apply(final AggregationProjection input) {
-                            return AggregationUnitFactory.create(input.getType());
-                        }
-                    });
-            aggregationMap.put(groupByValue, map);
+    }
+    
+    private AggregationUnit[] createAggregationUnits(final List<AggregationProjection> aggregationProjections) {
+        AggregationUnit[] result = new AggregationUnit[aggregationProjections.size()];
+        int index = 0;
+        for (AggregationProjection each : aggregationProjections) {
+            result[index++] = AggregationUnitFactory.create(each.getType());
         }
+        return result;
     }
     
-    private void aggregate(final QueryResult queryResult, final GroupByValue groupByValue, final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap) throws SQLException {
-        for (AggregationProjection each : selectSQLStatementContext.getProjectionsContext().getAggregationProjections()) {
-            List<Comparable<?>> values = new ArrayList<>(2);
+    private void aggregate(final QueryResult queryResult, final List<AggregationProjection> aggregationProjections,
+                           final AggregationUnit[] aggregationUnits, final List<Comparable<?>> aggregationValues) throws SQLException {
+        int index = 0;
+        for (AggregationProjection each : aggregationProjections) {
+            aggregationValues.clear();
             if (each.getDerivedAggregationProjections().isEmpty()) {
-                values.add(getAggregationValue(queryResult, each));
+                aggregationValues.add(getAggregationValue(queryResult, each));
             } else {
                 for (AggregationProjection derived : each.getDerivedAggregationProjections()) {
-                    values.add(getAggregationValue(queryResult, derived));
+                    aggregationValues.add(getAggregationValue(queryResult, derived));
                 }
             }
-            aggregationMap.get(groupByValue).get(each).merge(values);
+            aggregationUnits[index++].merge(aggregationValues);
         }
     }
     
@@ -114,14 +129,6 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult {
         return (Comparable<?>) result;
     }
     
-    private void setAggregationValueToMemoryRow(final Map<GroupByValue, MemoryQueryResultRow> dataMap, final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap) {
-        for (Entry<GroupByValue, MemoryQueryResultRow> entry : dataMap.entrySet()) {
-            for (AggregationProjection each : selectSQLStatementContext.getProjectionsContext().getAggregationProjections()) {
-                entry.getValue().setCell(each.getIndex(), aggregationMap.get(entry.getKey()).get(each).getResult());
-            }
-        }
-    }
-    
     private List<Boolean> getValueCaseSensitive(final QueryResult queryResult) throws SQLException {
         List<Boolean> result = Lists.newArrayList(false);
         for (int columnIndex = 1; columnIndex <= queryResult.getColumnCount(); columnIndex++) {
@@ -130,8 +137,12 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult {
         return result;
     }
     
-    private List<MemoryQueryResultRow> getMemoryResultSetRows(final Map<GroupByValue, MemoryQueryResultRow> dataMap, final List<Boolean> valueCaseSensitive) {
-        List<MemoryQueryResultRow> result = new ArrayList<>(dataMap.values());
+    private List<MemoryQueryResultRow> getMemoryResultSetRows(
+            final Collection<GroupByMemoryRow> groupByMemoryRows, final List<AggregationProjection> aggregationProjections, final List<Boolean> valueCaseSensitive) {
+        List<MemoryQueryResultRow> result = new ArrayList<>(groupByMemoryRows.size());
+        for (GroupByMemoryRow each : groupByMemoryRows) {
+            result.add(each.toMemoryQueryResultRow(aggregationProjections));
+        }
         Collections.sort(result, new GroupByRowComparator(selectSQLStatementContext, valueCaseSensitive));
         return result;
     }
@@ -144,4 +155,21 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult {
         }
         return false;
     }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class GroupByMemoryRow {
+        
+        private final MemoryQueryResultRow memoryQueryResultRow;
+        
+        private final AggregationUnit[] aggregationUnits;
+        
+        private MemoryQueryResultRow toMemoryQueryResultRow(final List<AggregationProjection> aggregationProjections) {
+            int index = 0;
+            for (AggregationProjection each : aggregationProjections) {
+                memoryQueryResultRow.setCell(each.getIndex(), aggregationUnits[index++].getResult());
+            }
+            return memoryQueryResultRow;
+        }
+    }
 }
@@ -21,13 +21,12 @@ import com.google.common.base.Preconditions;
 import lombok.Getter;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
+import org.apache.shardingsphere.core.parse.core.constant.OrderDirection;
 import org.apache.shardingsphere.core.preprocessor.segment.select.orderby.OrderByItem;
 
 import java.sql.SQLException;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.List;
 
 /**
  * Order by value.
@@ -40,25 +39,37 @@ public final class OrderByValue implements Comparable<OrderByValue> {
     @Getter
     private final QueryResult queryResult;
     
-    private final Collection<OrderByItem> orderByItems;
+    private final int[] orderIndexes;
     
-    private final List<Boolean> orderValuesCaseSensitive;
+    private final OrderDirection[] orderDirections;
     
-    private List<Comparable<?>> orderValues;
+    private final OrderDirection[] nullOrderDirections;
+    
+    private final boolean[] orderValuesCaseSensitive;
+    
+    private final Comparable<?>[] orderValues;
     
     public OrderByValue(final QueryResult queryResult, final Collection<OrderByItem> orderByItems) {
         this.queryResult = queryResult;
-        this.orderByItems = orderByItems;
-        this.orderValuesCaseSensitive = getOrderValuesCaseSensitive();
+        int size = orderByItems.size();
+        orderIndexes = new int[size];
+        orderDirections = new OrderDirection[size];
+        nullOrderDirections = new OrderDirection[size];
+        orderValuesCaseSensitive = new boolean[size];
+        orderValues = new Comparable<?>[size];
+        initOrderItems(orderByItems);
     }
     
     @SneakyThrows
-    private List<Boolean> getOrderValuesCaseSensitive() {
-        List<Boolean> result = new ArrayList<>(orderByItems.size());
+    private void initOrderItems(final Collection<OrderByItem> orderByItems) {
+        int i = 0;
         for (OrderByItem each : orderByItems) {
-            result.add(queryResult.isCaseSensitive(each.getIndex()));
+            orderIndexes[i] = each.getIndex();
+            orderDirections[i] = each.getSegment().getOrderDirection();
+            nullOrderDirections[i] = each.getSegment().getNullOrderDirection();
+            orderValuesCaseSensitive[i] = queryResult.isCaseSensitive(each.getIndex());
+            i++;
         }
-        return result;
     }
     
     /**
@@ -69,30 +80,29 @@ public final class OrderByValue implements Comparable<OrderByValue> {
      */
     public boolean next() throws SQLException {
         boolean result = queryResult.next();
-        orderValues = result ? getOrderValues() : Collections.<Comparable<?>>emptyList();
+        if (result) {
+            loadOrderValues();
+        } else {
+            Arrays.fill(orderValues, null);
+        }
         return result;
     }
     
-    private List<Comparable<?>> getOrderValues() throws SQLException {
-        List<Comparable<?>> result = new ArrayList<>(orderByItems.size());
-        for (OrderByItem each : orderByItems) {
-            Object value = queryResult.getValue(each.getIndex(), Object.class);
+    private void loadOrderValues() throws SQLException {
+        for (int i = 0; i < orderIndexes.length; i++) {
+            Object value = queryResult.getValue(orderIndexes[i], Object.class);
             Preconditions.checkState(null == value || value instanceof Comparable, "Order by value must implements Comparable");
-            result.add((Comparable<?>) value);
+            orderValues[i] = !orderValuesCaseSensitive[i] && value instanceof String ? ((String) value).toUpperCase() : (Comparable<?>) value;
         }
-        return result;
     }
     
     @Override
     public int compareTo(final OrderByValue o) {
-        int i = 0;
-        for (OrderByItem each : orderByItems) {
-            int result = CompareUtil.compareTo(orderValues.get(i), o.orderValues.get(i), each.getSegment().getOrderDirection(),
-                each.getSegment().getNullOrderDirection(), orderValuesCaseSensitive.get(i));
+        for (int i = 0; i < orderValues.length; i++) {
+            int result = CompareUtil.compareTo(orderValues[i], o.orderValues[i], orderDirections[i], nullOrderDirections[i], true);
             if (0 != result) {
                 return result;
             }
-            i++;
         }
         return 0;
     }
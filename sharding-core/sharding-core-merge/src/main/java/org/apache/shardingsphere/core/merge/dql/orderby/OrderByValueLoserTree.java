@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.orderby;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Loser tree of order by values.
+ * 
+ * <p>
+ * Each internal node keeps the loser of its sub tree, so advancing the winner only replays the path from its leaf to the root.
+ * </p>
+ */
+public final class OrderByValueLoserTree {
+    
+    private final OrderByValue[] orderByValues;
+    
+    private final boolean[] exhausted;
+    
+    private final int[] losers;
+    
+    private int winner;
+    
+    public OrderByValueLoserTree(final List<OrderByValue> orderByValues) {
+        this.orderByValues = orderByValues.toArray(new OrderByValue[0]);
+        exhausted = new boolean[this.orderByValues.length];
+        losers = new int[this.orderByValues.length];
+        winner = this.orderByValues.length > 0 ? build(1) : -1;
+    }
+    
+    private int build(final int node) {
+        if (node >= orderByValues.length) {
+            return node - orderByValues.length;
+        }
+        int left = build(2 * node);
+        int right = build(2 * node + 1);
+        if (isBefore(left, right)) {
+            losers[node] = right;
+            return left;
+        }
+        losers[node] = left;
+        return right;
+    }
+    
+    private boolean isBefore(final int index, final int otherIndex) {
+        if (exhausted[index]) {
+            return false;
+        }
+        if (exhausted[otherIndex]) {
+            return true;
+        }
+        int result = orderByValues[index].compareTo(orderByValues[otherIndex]);
+        return result < 0 || 0 == result && index < otherIndex;
+    }
+    
+    /**
+     * Judge whether all order by values are exhausted.
+     * 
+     * @return all order by values are exhausted or not
+     */
+    public boolean isEmpty() {
+        return -1 == winner || exhausted[winner];
+    }
+    
+    /**
+     * Get current first order by value.
+     * 
+     * @return current first order by value
+     */
+    public OrderByValue peek() {
+        return orderByValues[winner];
+    }
+    
+    /**
+     * Move current first order by value to its next row and replay its path.
+     * 
+     * @throws SQLException SQL exception
+     */
+    public void next() throws SQLException {
+        if (!orderByValues[winner].next()) {
+            exhausted[winner] = true;
+        }
+        int current = winner;
+        for (int node = (current + orderByValues.length) / 2; node > 0; node /= 2) {
+            if (isBefore(losers[node], current)) {
+                int loser = losers[node];
+                losers[node] = current;
+                current = loser;
+            }
+        }
+        winner = current;
+    }
+}
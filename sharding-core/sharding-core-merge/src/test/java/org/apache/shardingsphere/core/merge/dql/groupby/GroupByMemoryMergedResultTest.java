@@ -19,6 +19,7 @@ package org.apache.shardingsphere.core.merge.dql.groupby;
 
 import com.google.common.collect.Lists;
 import org.apache.shardingsphere.core.database.DatabaseTypes;
+import org.apache.shardingsphere.core.exception.ShardingException;
 import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
 import org.apache.shardingsphere.core.merge.MergedResult;
 import org.apache.shardingsphere.core.merge.dql.DQLMergeEngine;
@@ -149,4 +150,38 @@ public final class GroupByMemoryMergedResultTest {
         assertThat((BigDecimal) actual.getValue(5, Object.class), is(new BigDecimal(40)));
         assertFalse(actual.next());
     }
+    
+    @Test
+    public void assertNextWithinMaxRows() throws SQLException {
+        mergeEngine = new DQLMergeEngine(DatabaseTypes.getActualDatabaseType("MySQL"), null, routeResult, queryResults, 2);
+        mockTwoGroups();
+        MergedResult actual = mergeEngine.merge();
+        assertTrue(actual.next());
+        assertThat((Integer) actual.getValue(3, Object.class), is(3));
+        assertTrue(actual.next());
+        assertThat((Integer) actual.getValue(3, Object.class), is(2));
+        assertFalse(actual.next());
+    }
+    
+    @Test(expected = ShardingException.class)
+    public void assertMergeExceedMaxRows() throws SQLException {
+        mergeEngine = new DQLMergeEngine(DatabaseTypes.getActualDatabaseType("MySQL"), null, routeResult, queryResults, 1);
+        mockTwoGroups();
+        mergeEngine.merge();
+    }
+    
+    private void mockTwoGroups() throws SQLException {
+        when(resultSets.get(0).next()).thenReturn(true, false);
+        when(resultSets.get(0).getObject(1)).thenReturn(20);
+        when(resultSets.get(0).getObject(2)).thenReturn(0);
+        when(resultSets.get(0).getObject(3)).thenReturn(2);
+        when(resultSets.get(0).getObject(4)).thenReturn(2);
+        when(resultSets.get(0).getObject(5)).thenReturn(20);
+        when(resultSets.get(1).next()).thenReturn(true, false);
+        when(resultSets.get(1).getObject(1)).thenReturn(30);
+        when(resultSets.get(1).getObject(2)).thenReturn(0);
+        when(resultSets.get(1).getObject(3)).thenReturn(3);
+        when(resultSets.get(1).getObject(4)).thenReturn(3);
+        when(resultSets.get(1).getObject(5)).thenReturn(30);
+    }
 }
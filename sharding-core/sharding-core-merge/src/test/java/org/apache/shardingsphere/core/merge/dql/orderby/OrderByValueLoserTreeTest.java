@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.merge.dql.orderby;
+
+import org.apache.shardingsphere.core.execute.sql.execute.result.QueryResult;
+import org.apache.shardingsphere.core.parse.core.constant.OrderDirection;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.core.preprocessor.segment.select.orderby.OrderByItem;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class OrderByValueLoserTreeTest {
+    
+    @Test
+    public void assertEmptyInput() {
+        assertTrue(new OrderByValueLoserTree(Collections.<OrderByValue>emptyList()).isEmpty());
+    }
+    
+    @Test
+    public void assertMergeOneStream() throws SQLException {
+        QueryResult queryResult = mockQueryResult(1, 2, 3);
+        OrderByValueLoserTree actual = new OrderByValueLoserTree(Collections.singletonList(createOrderByValue(queryResult)));
+        assertThat(pollAll(actual), is(Arrays.asList(queryResult, queryResult, queryResult)));
+    }
+    
+    @Test
+    public void assertMergeWithTies() throws SQLException {
+        QueryResult queryResult1 = mockQueryResult(1, 2);
+        QueryResult queryResult2 = mockQueryResult(1, 2);
+        QueryResult queryResult3 = mockQueryResult(2);
+        OrderByValueLoserTree actual = new OrderByValueLoserTree(
+                Arrays.asList(createOrderByValue(queryResult1), createOrderByValue(queryResult2), createOrderByValue(queryResult3)));
+        assertThat(pollAll(actual), is(Arrays.asList(queryResult1, queryResult2, queryResult1, queryResult2, queryResult3)));
+    }
+    
+    @Test
+    public void assertMergeWithStreamsRunningOut() throws SQLException {
+        QueryResult queryResult1 = mockQueryResult(1);
+        QueryResult queryResult2 = mockQueryResult(2, 3, 4);
+        QueryResult queryResult3 = mockQueryResult(1, 5);
+        QueryResult queryResult4 = mockQueryResult(3);
+        OrderByValueLoserTree actual = new OrderByValueLoserTree(
+                Arrays.asList(createOrderByValue(queryResult1), createOrderByValue(queryResult2), createOrderByValue(queryResult3), createOrderByValue(queryResult4)));
+        assertThat(pollAll(actual), is(Arrays.asList(queryResult1, queryResult3, queryResult2, queryResult2, queryResult4, queryResult2, queryResult3)));
+    }
+    
+    private QueryResult mockQueryResult(final Integer... values) throws SQLException {
+        QueryResult result = mock(QueryResult.class);
+        Boolean[] nextResults = new Boolean[values.length];
+        Arrays.fill(nextResults, true);
+        nextResults[values.length - 1] = false;
+        when(result.next()).thenReturn(true, nextResults);
+        when(result.getValue(1, Object.class)).thenReturn(values[0], Arrays.copyOfRange(values, 1, values.length));
+        return result;
+    }
+    
+    private OrderByValue createOrderByValue(final QueryResult queryResult) throws SQLException {
+        OrderByItem orderByItem = new OrderByItem(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.ASC, OrderDirection.ASC));
+        orderByItem.setIndex(1);
+        OrderByValue result = new OrderByValue(queryResult, Collections.singletonList(orderByItem));
+        assertTrue(result.next());
+        return result;
+    }
+    
+    private List<QueryResult> pollAll(final OrderByValueLoserTree loserTree) throws SQLException {
+        List<QueryResult> result = new LinkedList<>();
+        while (!loserTree.isEmpty()) {
+            result.add(loserTree.peek().getQueryResult());
+            loserTree.next();
+        }
+        return result;
+    }
+}
@@ -18,7 +18,6 @@
 package org.apache.shardingsphere.core.parse;
 
 import com.google.common.base.Optional;
-import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.core.parse.cache.SQLParseResultCache;
 import org.apache.shardingsphere.core.parse.core.SQLParseKernel;
 import org.apache.shardingsphere.core.parse.core.rule.registry.ParseRuleRegistry;
@@ -32,12 +31,21 @@ import org.apache.shardingsphere.spi.database.DatabaseType;
  *
  * @author zhangliang
  */
-@RequiredArgsConstructor
 public final class SQLParseEngine {
     
     private final DatabaseType databaseType;
     
-    private final SQLParseResultCache cache = new SQLParseResultCache();
+    private final SQLParseResultCache cache;
+    
+    public SQLParseEngine(final DatabaseType databaseType) {
+        this.databaseType = databaseType;
+        cache = new SQLParseResultCache();
+    }
+    
+    public SQLParseEngine(final DatabaseType databaseType, final long cacheSize) {
+        this.databaseType = databaseType;
+        cache = new SQLParseResultCache(cacheSize);
+    }
     
     /**
      * Parse SQL.
@@ -47,7 +55,7 @@ public final class SQLParseEngine {
      * @return SQL statement
      */
     public SQLStatement parse(final String sql, final boolean useCache) {
-        ParsingHook parsingHook = new SPIParsingHook();
+        ParsingHook parsingHook = SPIParsingHook.newInstance();
         parsingHook.start(sql);
         try {
             SQLStatement result = parse0(sql, useCache);
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.core.parse;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.core.parse.cache.SQLParseResultCache;
 import org.apache.shardingsphere.spi.database.DatabaseType;
 
 import java.util.Map;
@@ -41,15 +42,31 @@ public final class SQLParseEngineFactory {
      * @return SQL parse engine
      */
     public static SQLParseEngine getSQLParseEngine(final DatabaseType databaseType) {
-        if (ENGINES.containsKey(databaseType.getName())) {
-            return ENGINES.get(databaseType.getName());
+        return getSQLParseEngine(databaseType, SQLParseResultCache.DEFAULT_MAXIMUM_SIZE);
+    }
+    
+    /**
+     * Get SQL parse engine.
+     *
+     * <p>
+     * SQL parse engines are shared by database type and size of parse result cache.
+     * </p>
+     *
+     * @param databaseType database type
+     * @param cacheSize size of parse result cache
+     * @return SQL parse engine
+     */
+    public static SQLParseEngine getSQLParseEngine(final DatabaseType databaseType, final long cacheSize) {
+        String key = databaseType.getName() + ":" + cacheSize;
+        if (ENGINES.containsKey(key)) {
+            return ENGINES.get(key);
         }
         synchronized (ENGINES) {
-            if (ENGINES.containsKey(databaseType.getName())) {
-                return ENGINES.get(databaseType.getName());
+            if (ENGINES.containsKey(key)) {
+                return ENGINES.get(key);
             }
-            SQLParseEngine result = new SQLParseEngine(databaseType);
-            ENGINES.put(databaseType.getName(), result);
+            SQLParseEngine result = new SQLParseEngine(databaseType, cacheSize);
+            ENGINES.put(key, result);
             return result;
         }
     }
@@ -18,21 +18,35 @@
 package org.apache.shardingsphere.core.parse.cache;
 
 import com.google.common.base.Optional;
-import org.apache.commons.collections4.map.AbstractReferenceMap;
-import org.apache.commons.collections4.map.ReferenceMap;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
 import org.apache.shardingsphere.core.parse.sql.statement.SQLStatement;
 
-import java.util.Map;
-
 /**
  * SQL parse result cache.
+ * 
+ * <p>
+ * Cache is bounded by size and evicts least recently used SQL statements,
+ * SQL statements are softly referenced so that they can be collected under memory pressure.
+ * </p>
  *
  * @author zhangliang
  * @author zhaojun
  */
 public final class SQLParseResultCache {
     
-    private final Map<String, SQLStatement> cache = new ReferenceMap<>(AbstractReferenceMap.ReferenceStrength.SOFT, AbstractReferenceMap.ReferenceStrength.SOFT, 65535, 1);
+    public static final long DEFAULT_MAXIMUM_SIZE = 65535L;
+    
+    private final Cache<String, SQLStatement> cache;
+    
+    public SQLParseResultCache() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+    
+    public SQLParseResultCache(final long maximumSize) {
+        cache = CacheBuilder.newBuilder().softValues().maximumSize(maximumSize).recordStats().build();
+    }
     
     /**
      * Put SQL and parse result into cache.
@@ -51,13 +65,22 @@ public final class SQLParseResultCache {
      * @return SQL statement
      */
     public Optional<SQLStatement> getSQLStatement(final String sql) {
-        return Optional.fromNullable(cache.get(sql));
+        return Optional.fromNullable(cache.getIfPresent(sql));
+    }
+    
+    /**
+     * Get cache statistics, include hit, miss and eviction counts.
+     * 
+     * @return cache statistics
+     */
+    public CacheStats getStats() {
+        return cache.stats();
     }
     
     /**
      * Clear cache.
      */
     public synchronized void clear() {
-        cache.clear();
+        cache.invalidateAll();
     }
 }
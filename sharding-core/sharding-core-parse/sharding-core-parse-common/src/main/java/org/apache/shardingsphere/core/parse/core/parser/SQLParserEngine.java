@@ -18,9 +18,16 @@
 package org.apache.shardingsphere.core.parse.core.parser;
 
 import lombok.RequiredArgsConstructor;
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.ConsoleErrorListener;
+import org.antlr.v4.runtime.DefaultErrorStrategy;
+import org.antlr.v4.runtime.Parser;
 import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.antlr.v4.runtime.tree.ErrorNode;
 import org.antlr.v4.runtime.tree.ParseTree;
+import org.apache.shardingsphere.core.parse.api.SQLParser;
 import org.apache.shardingsphere.core.parse.core.extractor.util.ExtractorUtils;
 import org.apache.shardingsphere.core.parse.core.extractor.util.RuleName;
 import org.apache.shardingsphere.core.parse.core.rule.registry.ParseRuleRegistry;
@@ -40,6 +47,8 @@ import java.util.Map;
 @RequiredArgsConstructor
 public final class SQLParserEngine {
     
+    private static final BailErrorStrategy BAIL_ERROR_STRATEGY = new BailErrorStrategy();
+    
     private final ParseRuleRegistry parseRuleRegistry;
     
     private final DatabaseType databaseType;
@@ -52,7 +61,7 @@ public final class SQLParserEngine {
      * @return abstract syntax tree of SQL
      */
     public SQLAST parse() {
-        ParseTree parseTree = SQLParserFactory.newInstance(databaseType, sql).execute().getChild(0);
+        ParseTree parseTree = twoPhaseParse().getChild(0);
         if (parseTree instanceof ErrorNode) {
             throw new SQLParsingException(String.format("Unsupported SQL of `%s`", sql));
         }
@@ -63,6 +72,36 @@ public final class SQLParserEngine {
         return new SQLAST((ParserRuleContext) parseTree, getParameterMarkerIndexes((ParserRuleContext) parseTree), rule);
     }
     
+    private ParserRuleContext twoPhaseParse() {
+        boolean isVirtualThread = SQLParserFactory.isVirtualThread();
+        SQLParser sqlParser = SQLParserFactory.getInstance(databaseType, sql, isVirtualThread);
+        try {
+            return twoPhaseParse(sqlParser);
+        } finally {
+            SQLParserFactory.release(databaseType, sqlParser, isVirtualThread);
+        }
+    }
+    
+    private ParserRuleContext twoPhaseParse(final SQLParser sqlParser) {
+        Parser parser = (Parser) sqlParser;
+        parser.removeErrorListeners();
+        parser.setErrorHandler(BAIL_ERROR_STRATEGY);
+        parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+        try {
+            return sqlParser.execute();
+        } catch (final ParseCancellationException ex) {
+            parser.reset();
+            parser.addErrorListener(ConsoleErrorListener.INSTANCE);
+            parser.setErrorHandler(new DefaultErrorStrategy());
+            parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+            try {
+                return sqlParser.execute();
+            } finally {
+                parser.setErrorHandler(BAIL_ERROR_STRATEGY);
+            }
+        }
+    }
+    
     private Map<ParserRuleContext, Integer> getParameterMarkerIndexes(final ParserRuleContext rootNode) {
         Collection<ParserRuleContext> placeholderNodes = ExtractorUtils.getAllDescendantNodes(rootNode, RuleName.PARAMETER_MARKER);
         Map<ParserRuleContext, Integer> result = new HashMap<>(placeholderNodes.size(), 1);
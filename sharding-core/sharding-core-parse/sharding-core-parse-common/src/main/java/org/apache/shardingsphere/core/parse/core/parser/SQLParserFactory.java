@@ -24,7 +24,9 @@ import org.antlr.v4.runtime.CharStream;
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Parser;
 import org.antlr.v4.runtime.TokenStream;
+import org.antlr.v4.runtime.atn.ParserATNSimulator;
 import org.apache.shardingsphere.core.database.DatabaseTypes;
 import org.apache.shardingsphere.core.parse.api.SQLParser;
 import org.apache.shardingsphere.core.parse.spi.SQLParserEntry;
@@ -32,12 +34,22 @@ import org.apache.shardingsphere.core.spi.NewInstanceServiceLoader;
 import org.apache.shardingsphere.spi.database.BranchDatabaseType;
 import org.apache.shardingsphere.spi.database.DatabaseType;
 
+import java.lang.reflect.Method;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 
 /**
  * SQL parser factory.
  * 
+ * <p>
+ * SQL parsers are created once per thread and database type, and are reset with new SQL before each parsing.
+ * Virtual threads are rarely reused, so they borrow SQL parsers from a bounded pool per database type instead.
+ * </p>
+ * 
  * @author duhongjun
  * @author zhangliang
  */
@@ -46,15 +58,44 @@ public final class SQLParserFactory {
     
     private static final Collection<DatabaseType> DATABASE_TYPES = new HashSet<>();
     
+    private static final Map<DatabaseType, SQLParserEntry> PARSER_ENTRIES = new HashMap<>();
+    
+    private static final Map<DatabaseType, BlockingQueue<SQLParser>> SHARED_PARSERS = new HashMap<>();
+    
+    private static final int SHARED_PARSERS_SIZE = Runtime.getRuntime().availableProcessors() * 2;
+    
+    private static final Method IS_VIRTUAL_METHOD = findIsVirtualMethod();
+    
+    private static final ThreadLocal<Map<DatabaseType, SQLParser>> CACHED_PARSERS = new ThreadLocal<Map<DatabaseType, SQLParser>>() {
+        
+        @Override
+        protected Map<DatabaseType, SQLParser> initialValue() {
+            return new HashMap<>();
+        }
+    };
+    
     static {
         NewInstanceServiceLoader.register(SQLParserEntry.class);
         for (SQLParserEntry each : NewInstanceServiceLoader.newServiceInstances(SQLParserEntry.class)) {
+            DatabaseType databaseType = DatabaseTypes.getActualDatabaseType(each.getDatabaseType());
             if (!(each instanceof BranchDatabaseType)) {
-                DATABASE_TYPES.add(DatabaseTypes.getActualDatabaseType(each.getDatabaseType()));
+                DATABASE_TYPES.add(databaseType);
+            }
+            if (!PARSER_ENTRIES.containsKey(databaseType)) {
+                PARSER_ENTRIES.put(databaseType, each);
+                SHARED_PARSERS.put(databaseType, new ArrayBlockingQueue<SQLParser>(SHARED_PARSERS_SIZE));
             }
         }
     }
     
+    private static Method findIsVirtualMethod() {
+        try {
+            return Thread.class.getMethod("isVirtual");
+        } catch (final NoSuchMethodException ignore) {
+            return null;
+        }
+    }
+    
     /**
      * Get add on database types.
      * 
@@ -64,25 +105,91 @@ public final class SQLParserFactory {
         return DATABASE_TYPES;
     }
     
+    /**
+     * Judge whether current thread is virtual thread.
+     * 
+     * @return current thread is virtual thread or not
+     */
+    @SneakyThrows
+    public static boolean isVirtualThread() {
+        return null != IS_VIRTUAL_METHOD && (Boolean) IS_VIRTUAL_METHOD.invoke(Thread.currentThread());
+    }
+    
     /** 
-     * New instance of SQL parser.
+     * Get SQL parser of current thread which is ready to parse SQL.
+     * 
+     * <p>
+     * SQL parser should be released after parsing.
+     * </p>
      * 
      * @param databaseType database type
      * @param sql SQL
+     * @param isVirtualThread current thread is virtual thread or not
      * @return SQL parser
      */
-    public static SQLParser newInstance(final DatabaseType databaseType, final String sql) {
-        for (SQLParserEntry each : NewInstanceServiceLoader.newServiceInstances(SQLParserEntry.class)) {
-            if (DatabaseTypes.getActualDatabaseType(each.getDatabaseType()) == databaseType) {
-                return createSQLParser(sql, each);
-            }
+    public static SQLParser getInstance(final DatabaseType databaseType, final String sql, final boolean isVirtualThread) {
+        SQLParser result = isVirtualThread ? borrowSharedParser(databaseType) : getThreadParser(databaseType);
+        reset((Parser) result, CharStreams.fromString(sql));
+        return result;
+    }
+    
+    /**
+     * Release SQL parser after parsing.
+     * 
+     * <p>
+     * SQL parser drops input and parse tree of last parsing, 
+     * SQL parsers borrowed by virtual threads are returned to pool, or discarded if pool is full.
+     * </p>
+     * 
+     * @param databaseType database type
+     * @param sqlParser SQL parser
+     * @param isVirtualThread current thread is virtual thread or not
+     */
+    public static void release(final DatabaseType databaseType, final SQLParser sqlParser, final boolean isVirtualThread) {
+        Parser parser = (Parser) sqlParser;
+        reset(parser, CharStreams.fromString(""));
+        ParserATNSimulator interpreter = parser.getInterpreter();
+        parser.setInterpreter(new ParserATNSimulator(parser, parser.getATN(), interpreter.decisionToDFA, interpreter.getSharedContextCache()));
+        if (isVirtualThread) {
+            SHARED_PARSERS.get(databaseType).offer(sqlParser);
+        }
+    }
+    
+    private static SQLParser borrowSharedParser(final DatabaseType databaseType) {
+        SQLParserEntry parserEntry = getParserEntry(databaseType);
+        SQLParser result = SHARED_PARSERS.get(databaseType).poll();
+        return null == result ? createSQLParser(parserEntry) : result;
+    }
+    
+    private static SQLParser getThreadParser(final DatabaseType databaseType) {
+        Map<DatabaseType, SQLParser> cachedParsers = CACHED_PARSERS.get();
+        SQLParser result = cachedParsers.get(databaseType);
+        if (null == result) {
+            result = createSQLParser(getParserEntry(databaseType));
+            cachedParsers.put(databaseType, result);
         }
-        throw new UnsupportedOperationException(String.format("Cannot support database type '%s'", databaseType));
+        return result;
+    }
+    
+    private static SQLParserEntry getParserEntry(final DatabaseType databaseType) {
+        SQLParserEntry result = PARSER_ENTRIES.get(databaseType);
+        if (null == result) {
+            throw new UnsupportedOperationException(String.format("Cannot support database type '%s'", databaseType));
+        }
+        return result;
     }
     
     @SneakyThrows
-    private static SQLParser createSQLParser(final String sql, final SQLParserEntry parserEntry) {
-        Lexer lexer = parserEntry.getLexerClass().getConstructor(CharStream.class).newInstance(CharStreams.fromString(sql));
+    private static SQLParser createSQLParser(final SQLParserEntry parserEntry) {
+        Lexer lexer = parserEntry.getLexerClass().getConstructor(CharStream.class).newInstance(CharStreams.fromString(""));
         return parserEntry.getParserClass().getConstructor(TokenStream.class).newInstance(new CommonTokenStream(lexer));
     }
+    
+    private static void reset(final Parser parser, final CharStream input) {
+        CommonTokenStream tokenStream = (CommonTokenStream) parser.getTokenStream();
+        Lexer lexer = (Lexer) tokenStream.getTokenSource();
+        lexer.setInputStream(input);
+        tokenStream.setTokenSource(lexer);
+        parser.setTokenStream(tokenStream);
+    }
 }
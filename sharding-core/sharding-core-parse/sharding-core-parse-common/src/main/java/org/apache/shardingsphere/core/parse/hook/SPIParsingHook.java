@@ -35,6 +35,15 @@ public final class SPIParsingHook implements ParsingHook {
         NewInstanceServiceLoader.register(ParsingHook.class);
     }
     
+    /**
+     * Create parsing hook, or share the empty one if no hook is registered.
+     *
+     * @return parsing hook
+     */
+    public static SPIParsingHook newInstance() {
+        return NewInstanceServiceLoader.newOrSharedInstance(ParsingHook.class, SPIParsingHook.class);
+    }
+    
     @Override
     public void start(final String sql) {
         for (ParsingHook each : parsingHooks) {
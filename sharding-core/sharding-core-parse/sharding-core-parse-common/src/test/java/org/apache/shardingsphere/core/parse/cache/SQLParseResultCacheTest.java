@@ -45,6 +45,26 @@ public final class SQLParseResultCacheTest {
         assertFalse(actual.getSQLStatement("SELECT 2").isPresent());
     }
     
+    @Test
+    public void assertEvictLeastRecentlyUsedWhenExceedMaximumSize() {
+        SQLParseResultCache actual = new SQLParseResultCache(1L);
+        actual.put("SELECT 1", new SelectStatement());
+        actual.put("SELECT 2", new SelectStatement());
+        assertFalse(actual.getSQLStatement("SELECT 1").isPresent());
+        assertTrue(actual.getSQLStatement("SELECT 2").isPresent());
+        assertThat(actual.getStats().evictionCount(), is(1L));
+    }
+    
+    @Test
+    public void assertGetStats() {
+        SQLParseResultCache actual = new SQLParseResultCache();
+        actual.put("SELECT 1", new SelectStatement());
+        actual.getSQLStatement("SELECT 1");
+        actual.getSQLStatement("SELECT 2");
+        assertThat(actual.getStats().hitCount(), is(1L));
+        assertThat(actual.getStats().missCount(), is(1L));
+    }
+    
     @Test
     public void assertClear() {
         SQLParseResultCache actual = new SQLParseResultCache();
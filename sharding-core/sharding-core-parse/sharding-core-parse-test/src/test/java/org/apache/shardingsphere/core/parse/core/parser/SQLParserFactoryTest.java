@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.parse.core.parser;
+
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.atn.ParserATNSimulator;
+import org.apache.shardingsphere.core.database.DatabaseTypes;
+import org.apache.shardingsphere.core.parse.api.SQLParser;
+import org.apache.shardingsphere.spi.database.DatabaseType;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public final class SQLParserFactoryTest {
+    
+    private final DatabaseType databaseType = DatabaseTypes.getActualDatabaseType("MySQL");
+    
+    @Test
+    public void assertGetInstanceWithSameThread() {
+        SQLParser expected = SQLParserFactory.getInstance(databaseType, "SELECT 1", false);
+        SQLParserFactory.release(databaseType, expected, false);
+        SQLParser actual = SQLParserFactory.getInstance(databaseType, "SELECT 2", false);
+        SQLParserFactory.release(databaseType, actual, false);
+        assertThat(actual, sameInstance(expected));
+    }
+    
+    @Test
+    public void assertReleaseDropsLastParsing() {
+        SQLParser sqlParser = SQLParserFactory.getInstance(databaseType, "SELECT * FROM t_order WHERE order_id = 1", false);
+        sqlParser.execute();
+        ParserATNSimulator interpreter = ((Parser) sqlParser).getInterpreter();
+        SQLParserFactory.release(databaseType, sqlParser, false);
+        CommonTokenStream tokenStream = (CommonTokenStream) ((Parser) sqlParser).getTokenStream();
+        assertThat(((Lexer) tokenStream.getTokenSource()).getInputStream().size(), is(0));
+        assertThat(((Parser) sqlParser).getInterpreter(), not(sameInstance(interpreter)));
+    }
+}
@@ -55,6 +55,8 @@ public final class SQLRewriteContext {
     @Getter
     private final ParameterBuilder parameterBuilder;
     
+    private SQLBuilder sqlBuilder;
+    
     public SQLRewriteContext(final TableMetas tableMetas, final SQLStatementContext sqlStatementContext, final String sql, final List<Object> parameters) {
         this.tableMetas = tableMetas;
         this.sqlStatementContext = sqlStatementContext;
@@ -72,16 +74,23 @@ public final class SQLRewriteContext {
      */
     public void addSQLTokenGenerators(final Collection<SQLTokenGenerator> sqlTokenGenerators) {
         this.sqlTokenGenerators.addAll(sqlTokenGenerators);
+        sqlBuilder = null;
     }
     
     /**
      * Get SQL builder.
      * 
+     * <p>
+     * SQL tokens are generated once and shared by all routing units of this SQL.
+     * </p>
+     * 
      * @return SQL builder
      */
     public SQLBuilder getSQLBuilder() {
-        SQLBuilder result = new SQLBuilder(sql);
-        result.getSqlTokens().addAll(sqlTokenGenerators.generateSQLTokens(sqlStatementContext, parameters, tableMetas));
-        return result;
+        if (null == sqlBuilder) {
+            sqlBuilder = new SQLBuilder(sql);
+            sqlBuilder.getSqlTokens().addAll(sqlTokenGenerators.generateSQLTokens(sqlStatementContext, parameters, tableMetas));
+        }
+        return sqlBuilder;
     }
 }
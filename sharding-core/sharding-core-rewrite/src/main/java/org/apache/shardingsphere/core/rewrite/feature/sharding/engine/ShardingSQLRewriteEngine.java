@@ -24,10 +24,8 @@ import org.apache.shardingsphere.core.rewrite.engine.SQLRewriteResult;
 import org.apache.shardingsphere.core.rewrite.parameter.builder.ParameterBuilder;
 import org.apache.shardingsphere.core.rewrite.parameter.builder.impl.GroupedParameterBuilder;
 import org.apache.shardingsphere.core.rewrite.parameter.builder.impl.StandardParameterBuilder;
-import org.apache.shardingsphere.core.route.router.sharding.condition.ShardingCondition;
 import org.apache.shardingsphere.core.route.router.sharding.condition.ShardingConditions;
 import org.apache.shardingsphere.core.route.type.RoutingUnit;
-import org.apache.shardingsphere.core.rule.DataNode;
 
 import java.util.Collections;
 import java.util.LinkedList;
@@ -57,29 +55,14 @@ public final class ShardingSQLRewriteEngine implements SQLRewriteEngine {
         if (parameterBuilder instanceof StandardParameterBuilder || shardingConditions.getConditions().isEmpty()) {
             return parameterBuilder.getParameters();
         }
-        if (parameterBuilder.getParameters().isEmpty()) {
+        GroupedParameterBuilder groupedParameterBuilder = (GroupedParameterBuilder) parameterBuilder;
+        if (groupedParameterBuilder.getParameterBuilders().isEmpty()) {
             return Collections.emptyList();
         }
         List<Object> result = new LinkedList<>();
-        int count = 0;
-        for (ShardingCondition each : shardingConditions.getConditions()) {
-            if (isInSameDataNode(each)) {
-                result.addAll(((GroupedParameterBuilder) parameterBuilder).getParameters(count));
-            }
-            count++;
+        for (int each : shardingConditions.getConditionIndexes(routingUnit)) {
+            result.addAll(groupedParameterBuilder.getParameters(each));
         }
         return result;
     }
-
-    private boolean isInSameDataNode(final ShardingCondition shardingCondition) {
-        if (shardingCondition.getDataNodes().isEmpty()) {
-            return true;
-        }
-        for (DataNode each : shardingCondition.getDataNodes()) {
-            if (routingUnit.getTableUnit(each.getDataSourceName(), each.getTableName()).isPresent()) {
-                return true;
-            }
-        }
-        return false;
-    }
 }
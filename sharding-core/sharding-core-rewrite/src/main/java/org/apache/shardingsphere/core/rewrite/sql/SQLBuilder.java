@@ -24,8 +24,9 @@ import org.apache.shardingsphere.core.rewrite.sql.token.pojo.SQLToken;
 import org.apache.shardingsphere.core.rewrite.sql.token.pojo.Substitutable;
 import org.apache.shardingsphere.core.route.type.RoutingUnit;
 
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.LinkedList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
@@ -43,7 +44,11 @@ public final class SQLBuilder {
     private final String logicSQL;
     
     @Getter
-    private final List<SQLToken> sqlTokens = new LinkedList<>();
+    private final List<SQLToken> sqlTokens = new ArrayList<>();
+    
+    private List<String> fragments;
+    
+    private int fixedLength;
     
     /**
      * Convert to SQL.
@@ -56,6 +61,11 @@ public final class SQLBuilder {
     
     /**
      * Convert to SQL.
+     * 
+     * <p>
+     * Literals between alterable SQL tokens are split only once and reused for every routing unit,
+     * so all SQL tokens should be added before the first conversion.
+     * </p>
      *
      * @param routingUnit routing unit
      * @param logicAndActualTables logic and actual map
@@ -65,27 +75,48 @@ public final class SQLBuilder {
         if (sqlTokens.isEmpty()) {
             return logicSQL;
         }
-        Collections.sort(sqlTokens);
+        if (null == fragments) {
+            Collections.sort(sqlTokens);
+            fragments = createFragments();
+        }
         return createLogicSQL(routingUnit, logicAndActualTables);
     }
     
+    private List<String> createFragments() {
+        List<String> result = new ArrayList<>(sqlTokens.size() + 1);
+        StringBuilder fragment = new StringBuilder(logicSQL.substring(0, sqlTokens.get(0).getStartIndex()));
+        int size = sqlTokens.size();
+        for (int i = 0; i < size; i++) {
+            SQLToken each = sqlTokens.get(i);
+            if (each instanceof Alterable) {
+                result.add(fragment.toString());
+                fragment.setLength(0);
+            } else {
+                fragment.append(each.toString());
+            }
+            fragment.append(getConjunctionLiterals(each, i + 1 == size ? logicSQL.length() : sqlTokens.get(i + 1).getStartIndex()));
+        }
+        result.add(fragment.toString());
+        for (String each : result) {
+            fixedLength += each.length();
+        }
+        return result;
+    }
+    
     private String createLogicSQL(final RoutingUnit routingUnit, final Map<String, String> logicAndActualTables) {
-        StringBuilder result = new StringBuilder();
-        result.append(logicSQL.substring(0, sqlTokens.get(0).getStartIndex()));
+        StringBuilder result = new StringBuilder(fixedLength + (fragments.size() - 1) * 16);
+        Iterator<String> fragmentIterator = fragments.iterator();
+        result.append(fragmentIterator.next());
         for (SQLToken each : sqlTokens) {
-            result.append(getSQLTokenLiterals(each, routingUnit, logicAndActualTables));
-            result.append(getConjunctionLiterals(each));
+            if (each instanceof Alterable) {
+                result.append(((Alterable) each).toString(routingUnit, logicAndActualTables));
+                result.append(fragmentIterator.next());
+            }
         }
         return result.toString();
     }
     
-    private String getSQLTokenLiterals(final SQLToken sqlToken, final RoutingUnit routingUnit, final Map<String, String> logicAndActualTables) {
-        return sqlToken instanceof Alterable ? ((Alterable) sqlToken).toString(routingUnit, logicAndActualTables) : sqlToken.toString();
-    }
-    
-    private String getConjunctionLiterals(final SQLToken sqlToken) {
-        int currentSQLTokenIndex = sqlTokens.indexOf(sqlToken);
-        int stopIndex = sqlTokens.size() - 1 == currentSQLTokenIndex ? logicSQL.length() : sqlTokens.get(currentSQLTokenIndex + 1).getStartIndex();
+    private String getConjunctionLiterals(final SQLToken sqlToken, final int stopIndex) {
         return logicSQL.substring(getStartIndex(sqlToken) > logicSQL.length() ? logicSQL.length() : getStartIndex(sqlToken), stopIndex);
     }
     
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.core.rewrite.sql.token.pojo.generic;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.ExpressionSegment;
@@ -26,11 +27,12 @@ import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.simple.Paramete
 import org.apache.shardingsphere.core.rewrite.sql.token.pojo.Alterable;
 import org.apache.shardingsphere.core.rewrite.sql.token.pojo.SQLToken;
 import org.apache.shardingsphere.core.rewrite.sql.token.pojo.Substitutable;
+import org.apache.shardingsphere.core.route.type.DataNodePositions;
 import org.apache.shardingsphere.core.route.type.RoutingUnit;
 import org.apache.shardingsphere.core.rule.DataNode;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
@@ -47,10 +49,13 @@ public final class InsertValuesToken extends SQLToken implements Substitutable,
     
     private final List<InsertValueToken> insertValueTokens;
     
+    @Getter(AccessLevel.NONE)
+    private DataNodePositions dataNodePositions;
+    
     public InsertValuesToken(final int startIndex, final int stopIndex) {
         super(startIndex);
         this.stopIndex = stopIndex;
-        insertValueTokens = new LinkedList<>();
+        insertValueTokens = new ArrayList<>();
     }
     
     /**
@@ -63,6 +68,7 @@ public final class InsertValuesToken extends SQLToken implements Substitutable,
     public InsertValueToken addInsertValue(final List<ExpressionSegment> values, final Collection<DataNode> dataNodes) {
         InsertValueToken result = new InsertValueToken(values, dataNodes);
         insertValueTokens.add(result);
+        dataNodePositions = null;
         return result;
     }
     
@@ -75,23 +81,20 @@ public final class InsertValuesToken extends SQLToken implements Substitutable,
     }
     
     private void appendInsertValue(final RoutingUnit routingUnit, final StringBuilder stringBuilder) {
-        for (InsertValueToken each : insertValueTokens) {
-            if (isAppend(routingUnit, each)) {
-                stringBuilder.append(each).append(", ");
-            }
+        for (int each : getDataNodePositions().getPositions(routingUnit)) {
+            stringBuilder.append(insertValueTokens.get(each)).append(", ");
         }
     }
     
-    private boolean isAppend(final RoutingUnit routingUnit, final InsertValueToken insertValueToken) {
-        if (insertValueToken.getDataNodes().isEmpty() || null == routingUnit) {
-            return true;
-        }
-        for (DataNode each : insertValueToken.getDataNodes()) {
-            if (routingUnit.getTableUnit(each.getDataSourceName(), each.getTableName()).isPresent()) {
-                return true;
+    private DataNodePositions getDataNodePositions() {
+        if (null == dataNodePositions) {
+            List<Collection<DataNode>> dataNodesList = new ArrayList<>(insertValueTokens.size());
+            for (InsertValueToken each : insertValueTokens) {
+                dataNodesList.add(each.getDataNodes());
             }
+            dataNodePositions = new DataNodePositions(dataNodesList);
         }
-        return false;
+        return dataNodePositions;
     }
     
     @RequiredArgsConstructor
@@ -22,6 +22,8 @@ import org.apache.shardingsphere.core.rewrite.feature.sharding.token.pojo.TableT
 import org.junit.Test;
 
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -40,4 +42,18 @@ public final class SQLBuilderTest {
         sqlBuilderWithTokens.getSqlTokens().add(new TableToken(14, 20, "t_order", QuoteCharacter.NONE));
         assertThat(sqlBuilderWithTokens.toSQL(null, Collections.singletonMap("t_order", "t_order_0")), is("SELECT * FROM t_order_0 WHERE order_id > 1"));
     }
+    
+    @Test
+    public void assertToSQLWithTokensForMultipleRoutingUnits() {
+        SQLBuilder sqlBuilderWithTokens = new SQLBuilder("SELECT * FROM t_order o JOIN t_order_item i ON o.order_id = i.order_id");
+        sqlBuilderWithTokens.getSqlTokens().add(new TableToken(29, 40, "t_order_item", QuoteCharacter.NONE));
+        sqlBuilderWithTokens.getSqlTokens().add(new TableToken(14, 20, "t_order", QuoteCharacter.NONE));
+        Map<String, String> logicAndActualTables = new HashMap<>(2, 1);
+        logicAndActualTables.put("t_order", "t_order_0");
+        logicAndActualTables.put("t_order_item", "t_order_item_0");
+        assertThat(sqlBuilderWithTokens.toSQL(null, logicAndActualTables), is("SELECT * FROM t_order_0 o JOIN t_order_item_0 i ON o.order_id = i.order_id"));
+        logicAndActualTables.put("t_order", "t_order_1");
+        logicAndActualTables.put("t_order_item", "t_order_item_1");
+        assertThat(sqlBuilderWithTokens.toSQL(null, logicAndActualTables), is("SELECT * FROM t_order_1 o JOIN t_order_item_1 i ON o.order_id = i.order_id"));
+    }
 }
@@ -36,6 +36,15 @@ public final class SPIRoutingHook implements RoutingHook {
         NewInstanceServiceLoader.register(RoutingHook.class);
     }
     
+    /**
+     * Create routing hook, or share the empty one if no hook is registered.
+     *
+     * @return routing hook
+     */
+    public static SPIRoutingHook newInstance() {
+        return NewInstanceServiceLoader.newOrSharedInstance(RoutingHook.class, SPIRoutingHook.class);
+    }
+    
     @Override
     public void start(final String sql) {
         for (RoutingHook each : routingHooks) {
@@ -17,10 +17,16 @@
 
 package org.apache.shardingsphere.core.route.router.sharding.condition;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
+import org.apache.shardingsphere.core.route.type.DataNodePositions;
+import org.apache.shardingsphere.core.route.type.RoutingUnit;
+import org.apache.shardingsphere.core.rule.DataNode;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -31,11 +37,14 @@ import java.util.List;
  */
 @RequiredArgsConstructor
 @Getter
-@ToString
+@ToString(exclude = "dataNodePositions")
 public final class ShardingConditions {
     
     private final List<ShardingCondition> conditions;
     
+    @Getter(AccessLevel.NONE)
+    private DataNodePositions dataNodePositions;
+    
     /**
      * Judge sharding conditions is always false or not.
      *
@@ -52,4 +61,25 @@ public final class ShardingConditions {
         }
         return true;
     }
+    
+    /**
+     * Get indexes of sharding conditions which belong to routing unit.
+     * 
+     * <p>
+     * Conditions are grouped by data nodes on first call, so it should be called after routing.
+     * </p>
+     *
+     * @param routingUnit routing unit
+     * @return indexes of sharding conditions in ascending order
+     */
+    public Collection<Integer> getConditionIndexes(final RoutingUnit routingUnit) {
+        if (null == dataNodePositions) {
+            List<Collection<DataNode>> dataNodesList = new ArrayList<>(conditions.size());
+            for (ShardingCondition each : conditions) {
+                dataNodesList.add(each.getDataNodes());
+            }
+            dataNodePositions = new DataNodePositions(dataNodesList);
+        }
+        return dataNodePositions.getPositions(routingUnit);
+    }
 }
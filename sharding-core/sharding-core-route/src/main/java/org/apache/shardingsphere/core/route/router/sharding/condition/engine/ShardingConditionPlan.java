@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.route.router.sharding.condition.engine;
+
+import lombok.Getter;
+import org.apache.shardingsphere.core.metadata.table.TableMetas;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+
+import java.lang.ref.WeakReference;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Sharding condition plan.
+ * 
+ * <p>
+ * Sharding predicates are resolved by SQL statement, sharding rule and table metas only, 
+ * so plan can be reused by every routing of same SQL statement, only route values need to be generated from parameters.
+ * Plan is abandoned once table metas are changed by DDL or reloading.
+ * Sharding rule and table metas are weakly referenced, plans cached with statements do not keep replaced ones reachable.
+ * </p>
+ */
+public final class ShardingConditionPlan {
+    
+    private final WeakReference<ShardingRule> shardingRule;
+    
+    private final WeakReference<TableMetas> tableMetas;
+    
+    private final long tableMetasVersion;
+    
+    @Getter
+    private final List<Collection<Collection<ShardingPredicate>>> predicateGroups;
+    
+    public ShardingConditionPlan(final ShardingRule shardingRule, final TableMetas tableMetas, final long tableMetasVersion, final List<Collection<Collection<ShardingPredicate>>> predicateGroups) {
+        this.shardingRule = new WeakReference<>(shardingRule);
+        this.tableMetas = new WeakReference<>(tableMetas);
+        this.tableMetasVersion = tableMetasVersion;
+        this.predicateGroups = predicateGroups;
+    }
+    
+    /**
+     * Judge plan is available for sharding rule and table metas or not.
+     * 
+     * @param shardingRule sharding rule
+     * @param tableMetas table metas
+     * @return plan is available or not
+     */
+    public boolean isAvailable(final ShardingRule shardingRule, final TableMetas tableMetas) {
+        return this.shardingRule.get() == shardingRule && this.tableMetas.get() == tableMetas && (null == tableMetas || tableMetasVersion == tableMetas.getVersion());
+    }
+}
@@ -18,6 +18,8 @@
 package org.apache.shardingsphere.core.route.router.sharding.condition.engine;
 
 import com.google.common.base.Optional;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.Range;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.core.exception.ShardingException;
@@ -56,6 +58,8 @@ import java.util.Map.Entry;
 @RequiredArgsConstructor
 public final class WhereClauseShardingConditionEngine {
     
+    private static final Cache<SQLStatement, ShardingConditionPlan> PLANS = CacheBuilder.newBuilder().weakKeys().build();
+    
     private final ShardingRule shardingRule;
     
     private final TableMetas tableMetas;
@@ -72,25 +76,61 @@ public final class WhereClauseShardingConditionEngine {
             return Collections.emptyList();
         }
         List<ShardingCondition> result = new ArrayList<>();
+        for (Collection<Collection<ShardingPredicate>> each : getShardingConditionPlan(sqlStatement).getPredicateGroups()) {
+            Collection<ShardingCondition> shardingConditions = generateShardingConditions(each, parameters);
+            if (!result.containsAll(shardingConditions)) {
+                result.addAll(shardingConditions);
+            }
+        }
+        return result;
+    }
+    
+    private ShardingConditionPlan getShardingConditionPlan(final SQLStatement sqlStatement) {
+        ShardingConditionPlan result = PLANS.getIfPresent(sqlStatement);
+        if (null == result || !result.isAvailable(shardingRule, tableMetas)) {
+            result = createShardingConditionPlan(sqlStatement);
+            PLANS.put(sqlStatement, result);
+        }
+        return result;
+    }
+    
+    private ShardingConditionPlan createShardingConditionPlan(final SQLStatement sqlStatement) {
+        long tableMetasVersion = null == tableMetas ? 0L : tableMetas.getVersion();
+        List<Collection<Collection<ShardingPredicate>>> predicateGroups = new LinkedList<>();
         Optional<WhereSegment> whereSegment = ((WhereSegmentAvailable) sqlStatement).getWhere();
         TablesContext tablesContext = new TablesContext(sqlStatement);
         if (whereSegment.isPresent()) {
-            result.addAll(createShardingConditions(tablesContext, whereSegment.get().getAndPredicates(), parameters));
+            predicateGroups.add(createShardingPredicateGroup(tablesContext, whereSegment.get().getAndPredicates()));
         }
-        Collection<SubqueryPredicateSegment> subqueryPredicateSegments = sqlStatement.findSQLSegments(SubqueryPredicateSegment.class);
-        for (SubqueryPredicateSegment each : subqueryPredicateSegments) {
-            Collection<ShardingCondition> subqueryShardingConditions = createShardingConditions(tablesContext, each.getAndPredicates(), parameters);
-            if (!result.containsAll(subqueryShardingConditions)) {
-                result.addAll(subqueryShardingConditions);
+        for (SubqueryPredicateSegment each : sqlStatement.findSQLSegments(SubqueryPredicateSegment.class)) {
+            predicateGroups.add(createShardingPredicateGroup(tablesContext, each.getAndPredicates()));
+        }
+        return new ShardingConditionPlan(shardingRule, tableMetas, tableMetasVersion, predicateGroups);
+    }
+    
+    private Collection<Collection<ShardingPredicate>> createShardingPredicateGroup(final TablesContext tablesContext, final Collection<AndPredicate> andPredicates) {
+        Collection<Collection<ShardingPredicate>> result = new LinkedList<>();
+        for (AndPredicate each : andPredicates) {
+            result.add(createShardingPredicates(tablesContext, each));
+        }
+        return result;
+    }
+    
+    private Collection<ShardingPredicate> createShardingPredicates(final TablesContext tablesContext, final AndPredicate andPredicate) {
+        Collection<ShardingPredicate> result = new LinkedList<>();
+        for (PredicateSegment each : andPredicate.getPredicates()) {
+            Optional<String> tableName = tablesContext.findTableName(each.getColumn(), tableMetas);
+            if (tableName.isPresent() && shardingRule.isShardingColumn(each.getColumn().getName(), tableName.get())) {
+                result.add(new ShardingPredicate(new Column(each.getColumn().getName(), tableName.get()), each));
             }
         }
         return result;
     }
     
-    private Collection<ShardingCondition> createShardingConditions(final TablesContext tablesContext, final Collection<AndPredicate> andPredicates, final List<Object> parameters) {
+    private Collection<ShardingCondition> generateShardingConditions(final Collection<Collection<ShardingPredicate>> andPredicates, final List<Object> parameters) {
         Collection<ShardingCondition> result = new LinkedList<>();
-        for (AndPredicate each : andPredicates) {
-            Map<Column, Collection<RouteValue>> routeValueMap = createRouteValueMap(tablesContext, each, parameters);
+        for (Collection<ShardingPredicate> each : andPredicates) {
+            Map<Column, Collection<RouteValue>> routeValueMap = createRouteValueMap(each, parameters);
             if (routeValueMap.isEmpty()) {
                 return Collections.emptyList();
             }
@@ -99,22 +139,17 @@ public final class WhereClauseShardingConditionEngine {
         return result;
     }
     
-    private Map<Column, Collection<RouteValue>> createRouteValueMap(final TablesContext tablesContext, final AndPredicate andPredicate, final List<Object> parameters) {
+    private Map<Column, Collection<RouteValue>> createRouteValueMap(final Collection<ShardingPredicate> shardingPredicates, final List<Object> parameters) {
         Map<Column, Collection<RouteValue>> result = new HashMap<>();
-        for (PredicateSegment each : andPredicate.getPredicates()) {
-            Optional<String> tableName = tablesContext.findTableName(each.getColumn(), tableMetas);
-            if (!tableName.isPresent() || !shardingRule.isShardingColumn(each.getColumn().getName(), tableName.get())) {
-                continue;
-            }
-            Column column = new Column(each.getColumn().getName(), tableName.get());
-            Optional<RouteValue> routeValue = ConditionValueGeneratorFactory.generate(each.getRightValue(), column, parameters);
+        for (ShardingPredicate each : shardingPredicates) {
+            Optional<RouteValue> routeValue = ConditionValueGeneratorFactory.generate(each.getPredicate().getRightValue(), each.getColumn(), parameters);
             if (!routeValue.isPresent()) {
                 continue;
             }
-            if (!result.containsKey(column)) {
-                result.put(column, new LinkedList<RouteValue>());
+            if (!result.containsKey(each.getColumn())) {
+                result.put(each.getColumn(), new LinkedList<RouteValue>());
             }
-            result.get(column).add(routeValue.get());
+            result.get(each.getColumn()).add(routeValue.get());
         }
         return result;
     }
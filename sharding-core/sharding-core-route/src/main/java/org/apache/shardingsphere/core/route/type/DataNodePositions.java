@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.route.type;
+
+import org.apache.shardingsphere.core.rule.DataNode;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Positions of ordered elements grouped by their data nodes.
+ * 
+ * <p>
+ * Elements without data node belong to every routing unit.
+ * </p>
+ */
+public final class DataNodePositions {
+    
+    private final Map<DataNode, List<Integer>> positions = new HashMap<>();
+    
+    private final List<Integer> allPositions = new LinkedList<>();
+    
+    private final List<Integer> unboundPositions = new LinkedList<>();
+    
+    public DataNodePositions(final List<? extends Collection<DataNode>> dataNodesList) {
+        int position = 0;
+        for (Collection<DataNode> each : dataNodesList) {
+            allPositions.add(position);
+            if (each.isEmpty()) {
+                unboundPositions.add(position);
+            }
+            for (DataNode dataNode : each) {
+                addPosition(dataNode, position);
+            }
+            position++;
+        }
+    }
+    
+    private void addPosition(final DataNode dataNode, final int position) {
+        List<Integer> dataNodePositions = positions.get(dataNode);
+        if (null == dataNodePositions) {
+            dataNodePositions = new ArrayList<>();
+            positions.put(dataNode, dataNodePositions);
+        }
+        if (dataNodePositions.isEmpty() || position != dataNodePositions.get(dataNodePositions.size() - 1)) {
+            dataNodePositions.add(position);
+        }
+    }
+    
+    /**
+     * Get positions of elements which belong to routing unit.
+     *
+     * @param routingUnit routing unit, null means all elements
+     * @return positions in ascending order
+     */
+    public Collection<Integer> getPositions(final RoutingUnit routingUnit) {
+        if (null == routingUnit) {
+            return allPositions;
+        }
+        if (1 == routingUnit.getTableUnits().size() && unboundPositions.isEmpty()) {
+            return getPositions(routingUnit, routingUnit.getTableUnits().get(0));
+        }
+        Collection<Integer> result = new TreeSet<>(unboundPositions);
+        for (TableUnit each : routingUnit.getTableUnits()) {
+            result.addAll(getPositions(routingUnit, each));
+        }
+        return result;
+    }
+    
+    private Collection<Integer> getPositions(final RoutingUnit routingUnit, final TableUnit tableUnit) {
+        List<Integer> result = positions.get(new DataNode(routingUnit.getMasterSlaveLogicDataSourceName(), tableUnit.getActualTableName()));
+        return null == result ? Collections.<Integer>emptyList() : result;
+    }
+}
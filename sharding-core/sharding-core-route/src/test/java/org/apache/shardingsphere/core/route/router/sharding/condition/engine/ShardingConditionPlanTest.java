@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.route.router.sharding.condition.engine;
+
+import org.apache.shardingsphere.core.metadata.table.TableMetaData;
+import org.apache.shardingsphere.core.metadata.table.TableMetas;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.junit.Test;
+
+import java.util.Collection;
+import java.util.Collections;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public final class ShardingConditionPlanTest {
+    
+    private final ShardingRule shardingRule = mock(ShardingRule.class);
+    
+    private final TableMetas tableMetas = new TableMetas(Collections.<String, TableMetaData>emptyMap());
+    
+    private final ShardingConditionPlan plan = new ShardingConditionPlan(shardingRule, tableMetas, 0L, Collections.<Collection<Collection<ShardingPredicate>>>emptyList());
+    
+    @Test
+    public void assertIsAvailable() {
+        assertTrue(plan.isAvailable(shardingRule, tableMetas));
+    }
+    
+    @Test
+    public void assertIsAvailableWithoutTableMetas() {
+        assertTrue(new ShardingConditionPlan(shardingRule, null, 0L, Collections.<Collection<Collection<ShardingPredicate>>>emptyList()).isAvailable(shardingRule, null));
+    }
+    
+    @Test
+    public void assertIsNotAvailableWhenShardingRuleChanged() {
+        assertFalse(plan.isAvailable(mock(ShardingRule.class), tableMetas));
+    }
+    
+    @Test
+    public void assertIsNotAvailableWhenTableMetasChanged() {
+        assertFalse(plan.isAvailable(shardingRule, new TableMetas(Collections.<String, TableMetaData>emptyMap())));
+    }
+    
+    @Test
+    public void assertIsNotAvailableWhenTableMetaDataPut() {
+        tableMetas.put("t_order", mock(TableMetaData.class));
+        assertFalse(plan.isAvailable(shardingRule, tableMetas));
+    }
+    
+    @Test
+    public void assertIsNotAvailableWhenTableMetaDataRemoved() {
+        tableMetas.remove("t_order");
+        assertFalse(plan.isAvailable(shardingRule, tableMetas));
+    }
+}
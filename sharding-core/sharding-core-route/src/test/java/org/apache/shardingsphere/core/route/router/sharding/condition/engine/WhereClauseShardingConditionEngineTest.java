@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.route.router.sharding.condition.engine;
+
+import org.apache.shardingsphere.core.metadata.table.TableMetaData;
+import org.apache.shardingsphere.core.metadata.table.TableMetas;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.AndPredicate;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.PredicateSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.WhereSegment;
+import org.apache.shardingsphere.core.parse.sql.segment.dml.predicate.value.PredicateCompareRightValue;
+import org.apache.shardingsphere.core.parse.sql.segment.generic.TableSegment;
+import org.apache.shardingsphere.core.parse.sql.statement.dml.SelectStatement;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class WhereClauseShardingConditionEngineTest {
+    
+    private final ShardingRule shardingRule = mock(ShardingRule.class);
+    
+    private final TableMetas tableMetas = new TableMetas(Collections.<String, TableMetaData>emptyMap());
+    
+    private final SelectStatement selectStatement = new SelectStatement();
+    
+    private WhereClauseShardingConditionEngine shardingConditionEngine;
+    
+    @Before
+    public void setUp() {
+        when(shardingRule.isShardingColumn("order_id", "t_order")).thenReturn(true);
+        selectStatement.getAllSQLSegments().add(new TableSegment(0, 0, "t_order"));
+        AndPredicate andPredicate = new AndPredicate();
+        andPredicate.getPredicates().add(new PredicateSegment(0, 0, new ColumnSegment(0, 0, "order_id"), new PredicateCompareRightValue("=", new LiteralExpressionSegment(0, 0, 1))));
+        WhereSegment whereSegment = new WhereSegment(0, 0, 0);
+        whereSegment.getAndPredicates().add(andPredicate);
+        selectStatement.setWhere(whereSegment);
+        shardingConditionEngine = new WhereClauseShardingConditionEngine(shardingRule, tableMetas);
+    }
+    
+    @Test
+    public void assertCreateShardingConditionsWithCachedPlan() {
+        assertThat(shardingConditionEngine.createShardingConditions(selectStatement, Collections.emptyList()).size(), is(1));
+        assertThat(shardingConditionEngine.createShardingConditions(selectStatement, Collections.emptyList()).size(), is(1));
+        verify(shardingRule, times(1)).isShardingColumn("order_id", "t_order");
+    }
+    
+    @Test
+    public void assertCreateShardingConditionsAfterTableMetaDataChanged() {
+        assertThat(shardingConditionEngine.createShardingConditions(selectStatement, Collections.emptyList()).size(), is(1));
+        tableMetas.put("t_order", mock(TableMetaData.class));
+        assertThat(shardingConditionEngine.createShardingConditions(selectStatement, Collections.emptyList()).size(), is(1));
+        verify(shardingRule, times(2)).isShardingColumn("order_id", "t_order");
+        assertThat(shardingConditionEngine.createShardingConditions(selectStatement, Collections.emptyList()).size(), is(1));
+        verify(shardingRule, times(2)).isShardingColumn("order_id", "t_order");
+    }
+}
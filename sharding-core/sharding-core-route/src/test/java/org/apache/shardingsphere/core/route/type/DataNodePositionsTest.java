@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.route.type;
+
+import org.apache.shardingsphere.core.rule.DataNode;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class DataNodePositionsTest {
+    
+    private DataNodePositions dataNodePositions;
+    
+    @Before
+    public void setUp() {
+        List<Collection<DataNode>> dataNodesList = new ArrayList<>();
+        dataNodesList.add(Collections.singletonList(new DataNode("ds", "table_0")));
+        dataNodesList.add(Collections.singletonList(new DataNode("ds", "table_1")));
+        dataNodesList.add(Collections.<DataNode>emptyList());
+        dataNodesList.add(Arrays.asList(new DataNode("ds", "table_0"), new DataNode("ds", "table_1")));
+        dataNodePositions = new DataNodePositions(dataNodesList);
+    }
+    
+    @Test
+    public void assertGetPositionsWithoutRoutingUnit() {
+        assertThat(new ArrayList<>(dataNodePositions.getPositions(null)), is(Arrays.asList(0, 1, 2, 3)));
+    }
+    
+    @Test
+    public void assertGetPositionsWithSingleTableUnit() {
+        RoutingUnit routingUnit = new RoutingUnit("ds");
+        routingUnit.getTableUnits().add(new TableUnit("table", "TABLE_1"));
+        assertThat(new ArrayList<>(dataNodePositions.getPositions(routingUnit)), is(Arrays.asList(1, 2, 3)));
+    }
+    
+    @Test
+    public void assertGetPositionsWithMultipleTableUnits() {
+        RoutingUnit routingUnit = new RoutingUnit("ds");
+        routingUnit.getTableUnits().add(new TableUnit("table", "table_1"));
+        routingUnit.getTableUnits().add(new TableUnit("table", "table_0"));
+        assertThat(new ArrayList<>(dataNodePositions.getPositions(routingUnit)), is(Arrays.asList(0, 1, 2, 3)));
+    }
+    
+    @Test
+    public void assertGetPositionsWithOtherDataSource() {
+        RoutingUnit routingUnit = new RoutingUnit("other_ds");
+        routingUnit.getTableUnits().add(new TableUnit("table", "table_0"));
+        assertThat(new ArrayList<>(dataNodePositions.getPositions(routingUnit)), is(Collections.singletonList(2)));
+    }
+}
@@ -67,7 +67,7 @@ public abstract class AbstractConnectionAdapter extends AbstractUnsupportedOpera
     
     private final ForceExecuteTemplate<Entry<String, Connection>> forceExecuteTemplateForClose = new ForceExecuteTemplate<>();
     
-    private final RootInvokeHook rootInvokeHook = new SPIRootInvokeHook();
+    private final RootInvokeHook rootInvokeHook = SPIRootInvokeHook.newInstance();
     
     protected AbstractConnectionAdapter() {
         rootInvokeHook.start();
@@ -62,6 +62,11 @@ public abstract class AbstractDataSourceAdapter extends AbstractUnsupportedOpera
         databaseType = createDatabaseType();
     }
     
+    protected AbstractDataSourceAdapter(final Map<String, DataSource> dataSourceMap, final DatabaseType databaseType) {
+        this.dataSourceMap = dataSourceMap;
+        this.databaseType = databaseType;
+    }
+    
     private DatabaseType createDatabaseType() throws SQLException {
         DatabaseType result = null;
         for (DataSource each : dataSourceMap.values()) {
@@ -53,12 +53,35 @@ public abstract class AbstractRuntimeContext<T extends BaseRule> implements Runt
         this.rule = rule;
         this.props = new ShardingProperties(null == props ? new Properties() : props);
         this.databaseType = databaseType;
-        executeEngine = new ShardingExecuteEngine(this.props.<Integer>getValue(ShardingPropertiesConstant.EXECUTOR_SIZE));
-        parseEngine = SQLParseEngineFactory.getSQLParseEngine(databaseType);
+        executeEngine = createExecuteEngine();
+        parseEngine = createParseEngine();
         ConfigurationLogger.log(rule.getRuleConfiguration());
         ConfigurationLogger.log(props);
     }
     
+    protected AbstractRuntimeContext(final AbstractRuntimeContext<T> previousRuntimeContext, final T rule, final Properties props) {
+        this.rule = rule;
+        this.props = new ShardingProperties(null == props ? new Properties() : props);
+        databaseType = previousRuntimeContext.getDatabaseType();
+        executeEngine = isExecutorChanged(previousRuntimeContext.getProps()) ? createExecuteEngine() : previousRuntimeContext.getExecuteEngine();
+        parseEngine = createParseEngine();
+        ConfigurationLogger.log(rule.getRuleConfiguration());
+        ConfigurationLogger.log(props);
+    }
+    
+    private SQLParseEngine createParseEngine() {
+        return SQLParseEngineFactory.getSQLParseEngine(databaseType, props.<Long>getValue(ShardingPropertiesConstant.SQL_PARSE_CACHE_SIZE));
+    }
+    
+    private ShardingExecuteEngine createExecuteEngine() {
+        return new ShardingExecuteEngine(props.<Integer>getValue(ShardingPropertiesConstant.EXECUTOR_SIZE), props.<Boolean>getValue(ShardingPropertiesConstant.EXECUTOR_VIRTUAL_THREAD_ENABLED));
+    }
+    
+    private boolean isExecutorChanged(final ShardingProperties previousProps) {
+        return !props.getValue(ShardingPropertiesConstant.EXECUTOR_SIZE).equals(previousProps.getValue(ShardingPropertiesConstant.EXECUTOR_SIZE))
+                || !props.getValue(ShardingPropertiesConstant.EXECUTOR_VIRTUAL_THREAD_ENABLED).equals(previousProps.getValue(ShardingPropertiesConstant.EXECUTOR_VIRTUAL_THREAD_ENABLED));
+    }
+    
     @Override
     public void close() throws Exception {
         executeEngine.close();
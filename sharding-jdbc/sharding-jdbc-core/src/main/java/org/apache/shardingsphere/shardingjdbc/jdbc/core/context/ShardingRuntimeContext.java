@@ -17,9 +17,13 @@
 
 package org.apache.shardingsphere.shardingjdbc.jdbc.core.context;
 
+import lombok.AccessLevel;
 import lombok.Getter;
+import org.apache.shardingsphere.core.constant.ShardingConstant;
+import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
 import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.execute.metadata.TableMetaDataInitializer;
+import org.apache.shardingsphere.core.execute.metadata.TableMetaDataSnapshot;
 import org.apache.shardingsphere.core.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.core.metadata.datasource.DataSourceMetas;
 import org.apache.shardingsphere.core.metadata.table.TableMetas;
@@ -54,24 +58,69 @@ public final class ShardingRuntimeContext extends AbstractRuntimeContext<Shardin
     
     private final ShardingTransactionManagerEngine shardingTransactionManagerEngine;
     
+    @Getter(AccessLevel.NONE)
+    private final TableMetaDataInitializer tableMetaDataInitializer;
+    
     public ShardingRuntimeContext(final Map<String, DataSource> dataSourceMap, final ShardingRule rule, final Properties props, final DatabaseType databaseType) throws SQLException {
         super(rule, props, databaseType);
         cachedDatabaseMetaData = createCachedDatabaseMetaData(dataSourceMap, rule);
-        metaData = createMetaData(dataSourceMap, rule, databaseType);
+        Map<String, String> dataSourceURLs = getDataSourceURLs(dataSourceMap);
+        DataSourceMetas dataSourceMetas = new DataSourceMetas(dataSourceURLs, databaseType);
+        tableMetaDataInitializer = getTableMetaDataInitializer(dataSourceMap, dataSourceMetas);
+        metaData = new ShardingSphereMetaData(dataSourceMetas, loadTableMetas(rule, dataSourceURLs));
         shardingTransactionManagerEngine = new ShardingTransactionManagerEngine();
         shardingTransactionManagerEngine.init(databaseType, dataSourceMap);
     }
     
+    public ShardingRuntimeContext(final ShardingRuntimeContext previousRuntimeContext, 
+                                  final Map<String, DataSource> dataSourceMap, final ShardingRule rule, final Properties props) throws SQLException {
+        super(previousRuntimeContext, rule, props);
+        boolean isMetaDataChanged = isMetaDataChanged(previousRuntimeContext.getProps());
+        if (!isMetaDataChanged && rule == previousRuntimeContext.getRule() && getExecuteEngine() == previousRuntimeContext.getExecuteEngine()) {
+            cachedDatabaseMetaData = previousRuntimeContext.getCachedDatabaseMetaData();
+            tableMetaDataInitializer = previousRuntimeContext.tableMetaDataInitializer;
+            metaData = previousRuntimeContext.getMetaData();
+        } else {
+            cachedDatabaseMetaData = createCachedDatabaseMetaData(dataSourceMap, rule);
+            previousRuntimeContext.tableMetaDataInitializer.waitSnapshotVerification();
+            DataSourceMetas dataSourceMetas = previousRuntimeContext.getMetaData().getDataSources();
+            tableMetaDataInitializer = getTableMetaDataInitializer(dataSourceMap, dataSourceMetas);
+            TableMetas tableMetas = isMetaDataChanged ? loadTableMetas(rule, getDataSourceURLs(dataSourceMap)) : renewTableMetas(previousRuntimeContext, rule);
+            metaData = new ShardingSphereMetaData(dataSourceMetas, tableMetas);
+        }
+        shardingTransactionManagerEngine = previousRuntimeContext.getShardingTransactionManagerEngine();
+    }
+    
+    private boolean isMetaDataChanged(final ShardingProperties previousProps) {
+        return !getProps().getValue(ShardingPropertiesConstant.METADATA_LAZY_LOADING_ENABLED).equals(previousProps.getValue(ShardingPropertiesConstant.METADATA_LAZY_LOADING_ENABLED))
+                || !getProps().getValue(ShardingPropertiesConstant.METADATA_LAZY_LOADING_MAX_SIZE).equals(previousProps.getValue(ShardingPropertiesConstant.METADATA_LAZY_LOADING_MAX_SIZE))
+                || !getProps().getValue(ShardingPropertiesConstant.METADATA_SNAPSHOT_DIRECTORY).equals(previousProps.getValue(ShardingPropertiesConstant.METADATA_SNAPSHOT_DIRECTORY))
+                || !getProps().getValue(ShardingPropertiesConstant.CHECK_TABLE_METADATA_ENABLED).equals(previousProps.getValue(ShardingPropertiesConstant.CHECK_TABLE_METADATA_ENABLED))
+                || !getProps().getValue(ShardingPropertiesConstant.MAX_CONNECTIONS_SIZE_PER_QUERY).equals(previousProps.getValue(ShardingPropertiesConstant.MAX_CONNECTIONS_SIZE_PER_QUERY));
+    }
+    
     private DatabaseMetaData createCachedDatabaseMetaData(final Map<String, DataSource> dataSourceMap, final ShardingRule rule) throws SQLException {
         try (Connection connection = dataSourceMap.values().iterator().next().getConnection()) {
             return new CachedDatabaseMetaData(connection.getMetaData(), dataSourceMap, rule);
         }
     }
     
-    private ShardingSphereMetaData createMetaData(final Map<String, DataSource> dataSourceMap, final ShardingRule shardingRule, final DatabaseType databaseType) throws SQLException {
-        DataSourceMetas dataSourceMetas = new DataSourceMetas(getDataSourceURLs(dataSourceMap), databaseType);
-        TableMetas tableMetas = new TableMetas(getTableMetaDataInitializer(dataSourceMap, dataSourceMetas).load(shardingRule));
-        return new ShardingSphereMetaData(dataSourceMetas, tableMetas);
+    private TableMetas loadTableMetas(final ShardingRule shardingRule, final Map<String, String> dataSourceURLs) throws SQLException {
+        if (getProps().<Boolean>getValue(ShardingPropertiesConstant.METADATA_LAZY_LOADING_ENABLED)) {
+            return tableMetaDataInitializer.loadLazily(shardingRule, getProps().<Long>getValue(ShardingPropertiesConstant.METADATA_LAZY_LOADING_MAX_SIZE));
+        }
+        String snapshotDirectory = getProps().getValue(ShardingPropertiesConstant.METADATA_SNAPSHOT_DIRECTORY);
+        if (snapshotDirectory.isEmpty()) {
+            return new TableMetas(tableMetaDataInitializer.load(shardingRule));
+        }
+        String snapshotName = String.format("%s-%08x", ShardingConstant.LOGIC_SCHEMA_NAME, dataSourceURLs.hashCode());
+        return tableMetaDataInitializer.load(shardingRule, new TableMetaDataSnapshot(snapshotDirectory, snapshotName));
+    }
+    
+    private TableMetas renewTableMetas(final ShardingRuntimeContext previousRuntimeContext, final ShardingRule shardingRule) throws SQLException {
+        return getProps().<Boolean>getValue(ShardingPropertiesConstant.METADATA_LAZY_LOADING_ENABLED)
+                ? tableMetaDataInitializer.loadLazily(shardingRule, getProps().<Long>getValue(ShardingPropertiesConstant.METADATA_LAZY_LOADING_MAX_SIZE))
+                : tableMetaDataInitializer.renew(previousRuntimeContext.getMetaData().getTables(), previousRuntimeContext.getRule(), shardingRule);
     }
     
     private Map<String, String> getDataSourceURLs(final Map<String, DataSource> dataSourceMap) throws SQLException {
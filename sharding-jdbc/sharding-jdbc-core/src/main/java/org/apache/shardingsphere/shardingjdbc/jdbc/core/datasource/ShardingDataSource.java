@@ -49,6 +49,11 @@ public class ShardingDataSource extends AbstractDataSourceAdapter {
         runtimeContext = new ShardingRuntimeContext(dataSourceMap, shardingRule, props, getDatabaseType());
     }
     
+    public ShardingDataSource(final ShardingDataSource previousDataSource, final ShardingRule shardingRule, final Properties props) throws SQLException {
+        super(previousDataSource.getDataSourceMap(), previousDataSource.getDatabaseType());
+        runtimeContext = new ShardingRuntimeContext(previousDataSource.getRuntimeContext(), getDataSourceMap(), shardingRule, props);
+    }
+    
     private void checkDataSourceType(final Map<String, DataSource> dataSourceMap) {
         for (DataSource each : dataSourceMap.values()) {
             Preconditions.checkArgument(!(each instanceof MasterSlaveDataSource), "Initialized data sources can not be master-slave data sources.");
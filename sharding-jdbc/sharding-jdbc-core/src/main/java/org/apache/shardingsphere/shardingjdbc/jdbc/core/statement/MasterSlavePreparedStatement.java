@@ -22,6 +22,7 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.route.router.masterslave.MasterSlaveRouter;
+import org.apache.shardingsphere.core.strategy.masterslave.DataSourceLoadRecorder;
 import org.apache.shardingsphere.shardingjdbc.jdbc.adapter.AbstractMasterSlavePreparedStatementAdapter;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.connection.MasterSlaveConnection;
 
@@ -29,6 +30,7 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.LinkedList;
 
 /**
@@ -47,6 +49,9 @@ public final class MasterSlavePreparedStatement extends AbstractMasterSlavePrepa
     
     private final Collection<PreparedStatement> routedStatements = new LinkedList<>();
     
+    @Getter(AccessLevel.NONE)
+    private final Collection<String> routedDataSourceNames = new LinkedList<>();
+    
     public MasterSlavePreparedStatement(final MasterSlaveConnection connection, final String sql) throws SQLException {
         this(connection, sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY, ResultSet.HOLD_CURSORS_OVER_COMMIT);
     }
@@ -63,6 +68,7 @@ public final class MasterSlavePreparedStatement extends AbstractMasterSlavePrepa
         for (String each : masterSlaveRouter.route(sql, true)) {
             PreparedStatement preparedStatement = connection.getConnection(each).prepareStatement(sql, resultSetType, resultSetConcurrency, resultSetHoldability);
             routedStatements.add(preparedStatement);
+            routedDataSourceNames.add(each);
         }
     }
     
@@ -73,6 +79,7 @@ public final class MasterSlavePreparedStatement extends AbstractMasterSlavePrepa
         for (String each : masterSlaveRouter.route(sql, true)) {
             PreparedStatement preparedStatement = connection.getConnection(each).prepareStatement(sql, autoGeneratedKeys);
             routedStatements.add(preparedStatement);
+            routedDataSourceNames.add(each);
         }
     }
     
@@ -83,6 +90,7 @@ public final class MasterSlavePreparedStatement extends AbstractMasterSlavePrepa
         for (String each : masterSlaveRouter.route(sql, true)) {
             PreparedStatement preparedStatement = connection.getConnection(each).prepareStatement(sql, columnIndexes);
             routedStatements.add(preparedStatement);
+            routedDataSourceNames.add(each);
         }
     }
     
@@ -93,13 +101,23 @@ public final class MasterSlavePreparedStatement extends AbstractMasterSlavePrepa
         for (String each : masterSlaveRouter.route(sql, true)) {
             PreparedStatement preparedStatement = connection.getConnection(each).prepareStatement(sql, columnNames);
             routedStatements.add(preparedStatement);
+            routedDataSourceNames.add(each);
         }
     }
     
     @Override
     public ResultSet executeQuery() throws SQLException {
         Preconditions.checkArgument(1 == routedStatements.size(), "Cannot support executeQuery for DDL");
-        return routedStatements.iterator().next().executeQuery();
+        DataSourceLoadRecorder loadRecorder = createLoadRecorder(routedDataSourceNames.iterator().next());
+        loadRecorder.start();
+        try {
+            ResultSet result = routedStatements.iterator().next().executeQuery();
+            loadRecorder.finishSuccess();
+            return result;
+        } catch (final SQLException ex) {
+            loadRecorder.finishFailure();
+            throw ex;
+        }
     }
     
     @Override
@@ -114,12 +132,30 @@ public final class MasterSlavePreparedStatement extends AbstractMasterSlavePrepa
     @Override
     public boolean execute() throws SQLException {
         boolean result = false;
+        Iterator<String> dataSourceNames = routedDataSourceNames.iterator();
         for (PreparedStatement each : routedStatements) {
-            result = each.execute();
+            result = execute(each, dataSourceNames.next());
         }
         return result;
     }
     
+    private boolean execute(final PreparedStatement preparedStatement, final String dataSourceName) throws SQLException {
+        DataSourceLoadRecorder loadRecorder = createLoadRecorder(dataSourceName);
+        loadRecorder.start();
+        try {
+            boolean result = preparedStatement.execute();
+            loadRecorder.finishSuccess();
+            return result;
+        } catch (final SQLException ex) {
+            loadRecorder.finishFailure();
+            throw ex;
+        }
+    }
+    
+    private DataSourceLoadRecorder createLoadRecorder(final String dataSourceName) {
+        return DataSourceLoadRecorder.newInstance(connection.getRuntimeContext().getRule().findLoadStatistics(dataSourceName));
+    }
+    
     @Override
     public void clearBatch() throws SQLException {
         Preconditions.checkArgument(1 == routedStatements.size(), "Cannot support clearBatch for DDL");
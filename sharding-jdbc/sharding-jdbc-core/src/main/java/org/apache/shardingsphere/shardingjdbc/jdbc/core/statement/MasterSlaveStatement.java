@@ -22,6 +22,7 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
 import org.apache.shardingsphere.core.route.router.masterslave.MasterSlaveRouter;
+import org.apache.shardingsphere.core.strategy.masterslave.DataSourceLoadRecorder;
 import org.apache.shardingsphere.shardingjdbc.jdbc.adapter.AbstractStatementAdapter;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.connection.MasterSlaveConnection;
 
@@ -76,9 +77,23 @@ public final class MasterSlaveStatement extends AbstractStatementAdapter {
         clearPrevious();
         Collection<String> dataSourceNames = masterSlaveRouter.route(sql, false);
         Preconditions.checkState(1 == dataSourceNames.size(), "Cannot support executeQuery for DML or DDL");
-        Statement statement = connection.getConnection(dataSourceNames.iterator().next()).createStatement(resultSetType, resultSetConcurrency, resultSetHoldability);
+        String dataSourceName = dataSourceNames.iterator().next();
+        Statement statement = connection.getConnection(dataSourceName).createStatement(resultSetType, resultSetConcurrency, resultSetHoldability);
         routedStatements.add(statement);
-        return statement.executeQuery(sql);
+        DataSourceLoadRecorder loadRecorder = createLoadRecorder(dataSourceName);
+        loadRecorder.start();
+        try {
+            ResultSet result = statement.executeQuery(sql);
+            loadRecorder.finishSuccess();
+            return result;
+        } catch (final SQLException ex) {
+            loadRecorder.finishFailure();
+            throw ex;
+        }
+    }
+    
+    private DataSourceLoadRecorder createLoadRecorder(final String dataSourceName) {
+        return DataSourceLoadRecorder.newInstance(connection.getRuntimeContext().getRule().findLoadStatistics(dataSourceName));
     }
     
     @Override
@@ -136,11 +151,24 @@ public final class MasterSlaveStatement extends AbstractStatementAdapter {
         for (String each : masterSlaveRouter.route(sql, false)) {
             Statement statement = connection.getConnection(each).createStatement(resultSetType, resultSetConcurrency, resultSetHoldability);
             routedStatements.add(statement);
-            result = statement.execute(sql);
+            result = execute(statement, sql, each);
         }
         return result;
     }
     
+    private boolean execute(final Statement statement, final String sql, final String dataSourceName) throws SQLException {
+        DataSourceLoadRecorder loadRecorder = createLoadRecorder(dataSourceName);
+        loadRecorder.start();
+        try {
+            boolean result = statement.execute(sql);
+            loadRecorder.finishSuccess();
+            return result;
+        } catch (final SQLException ex) {
+            loadRecorder.finishFailure();
+            throw ex;
+        }
+    }
+    
     @Override
     public boolean execute(final String sql, final int autoGeneratedKeys) throws SQLException {
         clearPrevious();
@@ -25,6 +25,7 @@ import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesCons
 import org.apache.shardingsphere.core.database.DatabaseTypes;
 import org.apache.shardingsphere.core.execute.ShardingExecuteEngine;
 import org.apache.shardingsphere.core.execute.sql.execute.threadlocal.ExecutorExceptionHandler;
+import org.apache.shardingsphere.core.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.core.rule.EncryptRule;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.apache.shardingsphere.core.rule.TableRule;
@@ -69,6 +70,7 @@ public abstract class AbstractBaseExecutorTest {
         when(runtimeContext.getExecuteEngine()).thenReturn(executeEngine);
         when(runtimeContext.getProps()).thenReturn(getShardingProperties());
         when(runtimeContext.getDatabaseType()).thenReturn(DatabaseTypes.getActualDatabaseType("H2"));
+        when(runtimeContext.getMetaData()).thenReturn(mock(ShardingSphereMetaData.class));
         ShardingRule shardingRule = getShardingRule();
         when(runtimeContext.getRule()).thenReturn(shardingRule);
         when(runtimeContext.getShardingTransactionManagerEngine()).thenReturn(new ShardingTransactionManagerEngine());
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingjdbc.jdbc.core.statement;
+
+import org.apache.shardingsphere.api.config.masterslave.LoadBalanceStrategyConfiguration;
+import org.apache.shardingsphere.api.config.masterslave.MasterSlaveRuleConfiguration;
+import org.apache.shardingsphere.core.rule.MasterSlaveRule;
+import org.apache.shardingsphere.core.strategy.masterslave.DataSourceLoadStatistics;
+import org.apache.shardingsphere.shardingjdbc.jdbc.core.datasource.MasterSlaveDataSource;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class MasterSlaveStatementTest {
+    
+    private static final String SQL = "SELECT * FROM t_order";
+    
+    private Connection slaveConnection;
+    
+    private MasterSlaveRule masterSlaveRule;
+    
+    private MasterSlaveDataSource masterSlaveDataSource;
+    
+    @Before
+    public void setUp() throws SQLException {
+        DataSource masterDataSource = mock(DataSource.class);
+        DataSource slaveDataSource = mock(DataSource.class);
+        Connection masterConnection = mockConnection();
+        slaveConnection = mockConnection();
+        when(masterDataSource.getConnection()).thenReturn(masterConnection);
+        when(slaveDataSource.getConnection()).thenReturn(slaveConnection);
+        Map<String, DataSource> dataSourceMap = new HashMap<>(2, 1);
+        dataSourceMap.put("test_ds_master", masterDataSource);
+        dataSourceMap.put("test_ds_slave", slaveDataSource);
+        masterSlaveRule = new MasterSlaveRule(new MasterSlaveRuleConfiguration(
+                "test_ds", "test_ds_master", Collections.singletonList("test_ds_slave"), new LoadBalanceStrategyConfiguration("LATENCY_AWARE", new Properties())));
+        masterSlaveDataSource = new MasterSlaveDataSource(dataSourceMap, masterSlaveRule, new Properties());
+    }
+    
+    @Test
+    public void assertExecuteQueryRecordsLoadStatistics() throws SQLException {
+        Statement statement = mock(Statement.class);
+        when(slaveConnection.createStatement(anyInt(), anyInt(), anyInt())).thenReturn(statement);
+        when(statement.executeQuery(SQL)).thenReturn(mock(ResultSet.class));
+        masterSlaveDataSource.getConnection().createStatement().executeQuery(SQL);
+        DataSourceLoadStatistics actual = masterSlaveRule.findLoadStatistics("test_ds_slave").get();
+        assertTrue(actual.getLatencyNanos() > 0L);
+        assertThat(actual.getOutstandingRequests(), is(0));
+        assertThat(actual.getErrorRate(1), is(0D));
+    }
+    
+    @Test
+    public void assertExecuteQueryRecordsLoadStatisticsWhenFailure() throws SQLException {
+        Statement statement = mock(Statement.class);
+        when(slaveConnection.createStatement(anyInt(), anyInt(), anyInt())).thenReturn(statement);
+        when(statement.executeQuery(SQL)).thenThrow(new SQLException("test"));
+        try {
+            masterSlaveDataSource.getConnection().createStatement().executeQuery(SQL);
+            fail("Expected SQLException");
+        } catch (final SQLException ignored) {
+        }
+        DataSourceLoadStatistics actual = masterSlaveRule.findLoadStatistics("test_ds_slave").get();
+        assertThat(actual.getOutstandingRequests(), is(0));
+        assertThat(actual.getErrorRate(1), is(1D));
+    }
+    
+    @Test
+    public void assertPreparedStatementExecuteRecordsLoadStatistics() throws SQLException {
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        when(slaveConnection.prepareStatement(anyString(), anyInt(), anyInt(), anyInt())).thenReturn(preparedStatement);
+        masterSlaveDataSource.getConnection().prepareStatement(SQL).execute();
+        DataSourceLoadStatistics actual = masterSlaveRule.findLoadStatistics("test_ds_slave").get();
+        assertTrue(actual.getLatencyNanos() > 0L);
+        assertThat(actual.getOutstandingRequests(), is(0));
+    }
+    
+    private Connection mockConnection() throws SQLException {
+        Connection result = mock(Connection.class);
+        DatabaseMetaData databaseMetaData = mock(DatabaseMetaData.class);
+        when(result.getMetaData()).thenReturn(databaseMetaData);
+        when(databaseMetaData.getURL()).thenReturn("jdbc:h2:mem:test_ds;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MYSQL");
+        return result;
+    }
+}
@@ -33,6 +33,7 @@ import org.apache.shardingsphere.orchestration.internal.registry.state.event.Dis
 import org.apache.shardingsphere.orchestration.internal.registry.state.schema.OrchestrationShardingSchema;
 import org.apache.shardingsphere.orchestration.reg.api.RegistryCenterConfiguration;
 import org.apache.shardingsphere.shardingjdbc.api.yaml.YamlShardingDataSourceFactory;
+import org.apache.shardingsphere.shardingjdbc.jdbc.core.context.ShardingRuntimeContext;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.datasource.ShardingDataSource;
 import org.junit.BeforeClass;
 import org.junit.Test;
@@ -118,8 +119,13 @@ public final class OrchestrationShardingDataSourceTest {
     
     @Test
     public void assertRenewProperties() {
+        ShardingRuntimeContext previousRuntimeContext = shardingDataSource.getDataSource().getRuntimeContext();
         shardingDataSource.renew(getPropertiesChangedEvent());
-        assertThat(shardingDataSource.getDataSource().getRuntimeContext().getProps().getProps().getProperty("sql.show"), is("true"));
+        ShardingRuntimeContext runtimeContext = shardingDataSource.getDataSource().getRuntimeContext();
+        assertThat(runtimeContext.getProps().getProps().getProperty("sql.show"), is("true"));
+        assertThat(runtimeContext.getExecuteEngine(), is(previousRuntimeContext.getExecuteEngine()));
+        assertThat(runtimeContext.getShardingTransactionManagerEngine(), is(previousRuntimeContext.getShardingTransactionManagerEngine()));
+        assertThat(runtimeContext.getMetaData(), is(previousRuntimeContext.getMetaData()));
     }
     
     private PropertiesChangedEvent getPropertiesChangedEvent() {
@@ -22,18 +22,31 @@ import com.google.common.base.Strings;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.SneakyThrows;
+import org.apache.shardingsphere.core.execute.ShardingThreadFactoryBuilder;
 import org.apache.shardingsphere.orchestration.internal.registry.RegistryCenterServiceLoader;
 import org.apache.shardingsphere.orchestration.reg.api.RegistryCenter;
 import org.apache.shardingsphere.orchestration.reg.api.RegistryCenterConfiguration;
 import org.apache.shardingsphere.spi.keygen.ShardingKeyGenerator;
 
 import java.util.Properties;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Key generator implemented by leaf segment algorithms.
+ * 
+ * <p>
+ *     Keys are taken from the current segment by atomic increment.
+ *     The next segment is allocated in background once the current segment is partly consumed,
+ *     and the step of the next segment grows or shrinks with the consumption rate.
+ * </p>
  *
  * @author wangguangyuan
  */
@@ -51,23 +64,36 @@ public final class LeafSegmentKeyGenerator implements ShardingKeyGenerator {
     
     private static final String REGULAR_PATTERN = "^((?!/).)*$";
     
+    private static final String DEFAULT_PREFETCH_PERCENT = "10";
+    
+    private static final long SEGMENT_DURATION_NANOS = TimeUnit.MINUTES.toNanos(15L);
+    
+    private static final long MAX_STEP = 1000000L;
+    
+    private static final long MAX_LOCK_BACKOFF_MILLISECONDS = 100L;
+    
     private final ExecutorService incrementCacheIdExecutor;
     
-    private final SynchronousQueue<Long> cacheIdQueue;
+    private final AtomicReference<Future<Segment>> nextSegment = new AtomicReference<>();
     
     private RegistryCenter leafRegistryCenter;
     
-    private long id;
+    private String leafKey;
+    
+    private long configuredStep;
+    
+    private volatile long step;
+    
+    private volatile Segment currentSegment;
     
-    private long step;
+    private long currentSegmentStartNanoTime;
     
     @Getter
     @Setter
     private Properties properties = new Properties();
     
     public LeafSegmentKeyGenerator() {
-        incrementCacheIdExecutor = Executors.newSingleThreadExecutor();
-        cacheIdQueue = new SynchronousQueue<>();
+        incrementCacheIdExecutor = Executors.newSingleThreadExecutor(ShardingThreadFactoryBuilder.build("Leaf-Segment-%d"));
     }
     
     @Override
@@ -76,108 +102,130 @@ public final class LeafSegmentKeyGenerator implements ShardingKeyGenerator {
     }
     
     @Override
-    public synchronized Comparable<?> generateKey() {
-        String leafKey = getLeafKey();
-        if (null == leafRegistryCenter) {
-            initLeafSegmentKeyGenerator(leafKey);
-        } else {
-            increaseIdWhenLeafKeyStoredInCenter(leafKey);       
+    public Comparable<?> generateKey() {
+        if (null == currentSegment) {
+            initLeafSegmentKeyGenerator();
         }
-        return id;
-    }
-    
-    private void initLeafSegmentKeyGenerator(final String leafKey) {
-        RegistryCenterConfiguration leafConfiguration = getRegistryCenterConfiguration();
-        leafRegistryCenter = new RegistryCenterServiceLoader().load(leafConfiguration);
-        step = getStep();
-        id = initializeId(leafKey);
-        initializeLeafKeyInCenter(leafKey, id, step);
-        initializeCacheIdAsynchronous(id, step);    
-    }
-    
-    private void increaseIdWhenLeafKeyStoredInCenter(final String leafKey) {
-        if ((id % step) == 0) {
-            id = tryTakeCacheId();
-            incrementCacheIdAsynchronous(leafKey, step - (id % step));
+        while (true) {
+            Segment segment = currentSegment;
+            long result = segment.cursor.getAndIncrement();
+            if (result <= segment.end) {
+                if (result >= segment.prefetchThreshold) {
+                    loadNextSegmentAsynchronous();
+                }
+                return result;
+            }
+            switchSegment(segment);
         }
-        ++id;
     }
     
-    private long initializeId(final String leafKey) {
-        if (leafRegistryCenter.isExisted(leafKey)) {
-            return Long.parseLong(leafRegistryCenter.getDirectly(leafKey)) + 1;
-        } else {
-            return getInitialValue();
+    private synchronized void initLeafSegmentKeyGenerator() {
+        if (null != currentSegment) {
+            return;
         }
+        leafKey = getLeafKey();
+        configuredStep = getStep();
+        step = configuredStep;
+        leafRegistryCenter = new RegistryCenterServiceLoader().load(getRegistryCenterConfiguration());
+        leafRegistryCenter.initLock(leafKey);
+        currentSegment = allocateSegment(step);
+        currentSegmentStartNanoTime = System.nanoTime();
     }
     
-    private void initializeLeafKeyInCenter(final String leafKey, final long id, final long step) {
-        leafRegistryCenter.initLock(leafKey);
-        while (!leafRegistryCenter.tryLock()) {
-            continue;
+    private void loadNextSegmentAsynchronous() {
+        if (null != nextSegment.get()) {
+            return;
         }
-        leafRegistryCenter.persist(leafKey, String.valueOf(id + step - id % step));
-        leafRegistryCenter.tryRelease();
-    }
-
-    private void initializeCacheIdAsynchronous(final long id, final long step) {
-        incrementCacheIdExecutor.execute(new Runnable() {
-
+        FutureTask<Segment> task = new FutureTask<>(new Callable<Segment>() {
+            
             @Override
-            public void run() {
-                tryPutCacheId(id + step - id % step);
+            public Segment call() {
+                return allocateSegment(step);
             }
         });
+        if (nextSegment.compareAndSet(null, task)) {
+            incrementCacheIdExecutor.execute(task);
+        }
     }
     
-    private void incrementCacheIdAsynchronous(final String leafKey, final long step) {
-        incrementCacheIdExecutor.execute(new Runnable() {
-
-            @Override
-            public void run() {
-                long newId = incrementCacheId(leafKey, step);
-                tryPutCacheId(newId);
-            }
-        });
+    private synchronized void switchSegment(final Segment exhaustedSegment) {
+        if (exhaustedSegment != currentSegment) {
+            return;
+        }
+        long now = System.nanoTime();
+        step = adjustStep(step, configuredStep, now - currentSegmentStartNanoTime);
+        loadNextSegmentAsynchronous();
+        try {
+            currentSegment = takeNextSegment();
+        } finally {
+            nextSegment.set(null);
+        }
+        currentSegmentStartNanoTime = now;
     }
     
-    private RegistryCenterConfiguration getRegistryCenterConfiguration() {
-        RegistryCenterConfiguration result = new RegistryCenterConfiguration(getRegistryCenterType(), properties);
-        result.setNamespace(DEFAULT_NAMESPACE);
-        result.setServerLists(getServerList());
-        result.setDigest(getDigest());
-        return result;
+    @SneakyThrows
+    private Segment takeNextSegment() {
+        try {
+            return nextSegment.get().get();
+        } catch (final ExecutionException ex) {
+            throw ex.getCause();
+        }
     }
     
-    @SneakyThrows
-    private long incrementCacheId(final String leafKey, final long step) {
-        while (!leafRegistryCenter.tryLock()) {
-            continue;
+    /**
+     * Adjust step by the whole lifetime of an exhausted segment.
+     * 
+     * <p>
+     * The segment after next is allocated with adjusted step, the next segment has been prefetched already.
+     * </p>
+     * 
+     * @param step current step
+     * @param configuredStep configured step, which is the lower bound of step
+     * @param segmentDurationNanos nanoseconds from the exhausted segment taking effect until it is exhausted
+     * @return adjusted step
+     */
+    static long adjustStep(final long step, final long configuredStep, final long segmentDurationNanos) {
+        if (segmentDurationNanos < SEGMENT_DURATION_NANOS && step <= MAX_STEP / 2) {
+            return step << 1;
         }
-        long result = updateCacheIdInCenter(leafKey, step);
-        leafRegistryCenter.tryRelease();
-        return result;
+        if (segmentDurationNanos > SEGMENT_DURATION_NANOS << 1 && step >> 1 >= configuredStep) {
+            return step >> 1;
+        }
+        return step;
     }
     
-    private long updateCacheIdInCenter(final String leafKey, final long step) {
-        String cacheIdInString = leafRegistryCenter.getDirectly(leafKey);
-        if (Strings.isNullOrEmpty(cacheIdInString)) {
-            return Long.MIN_VALUE;
+    private Segment allocateSegment(final long step) {
+        lockWithBackoff();
+        try {
+            String cacheIdInString = leafRegistryCenter.getDirectly(leafKey);
+            long start = Strings.isNullOrEmpty(cacheIdInString) ? getInitialValue() : Long.parseLong(cacheIdInString) + 1;
+            long end = start + step - start % step;
+            if (Strings.isNullOrEmpty(cacheIdInString)) {
+                leafRegistryCenter.persist(leafKey, String.valueOf(end));
+            } else {
+                leafRegistryCenter.update(leafKey, String.valueOf(end));
+            }
+            return new Segment(start, end, start + (end - start + 1) * getPrefetchPercent() / 100);
+        } finally {
+            leafRegistryCenter.tryRelease();
         }
-        long cacheId = Long.parseLong(cacheIdInString);
-        long result = cacheId + step;
-        leafRegistryCenter.update(leafKey, String.valueOf(result));
-        return result;
     }
     
     @SneakyThrows
-    private void tryPutCacheId(final long id) {
-        cacheIdQueue.put(id);
+    private void lockWithBackoff() {
+        long backoffMilliseconds = 1L;
+        while (!leafRegistryCenter.tryLock()) {
+            Thread.sleep(backoffMilliseconds);
+            backoffMilliseconds = Math.min(backoffMilliseconds << 1, MAX_LOCK_BACKOFF_MILLISECONDS);
+        }
     }
     
-    @SneakyThrows
-    private long tryTakeCacheId() {
-        return cacheIdQueue.take();
+    private RegistryCenterConfiguration getRegistryCenterConfiguration() {
+        RegistryCenterConfiguration result = new RegistryCenterConfiguration(getRegistryCenterType(), properties);
+        result.setNamespace(DEFAULT_NAMESPACE);
+        result.setServerLists(getServerList());
+        result.setDigest(getDigest());
+        return result;
     }
     
     private long getStep() {
@@ -192,6 +240,12 @@ public final class LeafSegmentKeyGenerator implements ShardingKeyGenerator {
         return result;
     }
     
+    private long getPrefetchPercent() {
+        long result = Long.parseLong(properties.getProperty("prefetchPercent", DEFAULT_PREFETCH_PERCENT));
+        Preconditions.checkArgument(result >= 0L && result <= 100L);
+        return result;
+    }
+    
     private String getLeafKey() {
         String leafKey = properties.getProperty("leafKey");
         Preconditions.checkArgument(!Strings.isNullOrEmpty(leafKey));
@@ -212,4 +266,19 @@ public final class LeafSegmentKeyGenerator implements ShardingKeyGenerator {
     private String getRegistryCenterType() {
         return properties.getProperty("registryCenterType", DEFAULT_REGISTRY_CENTER);
     }
+    
+    private static final class Segment {
+        
+        private final AtomicLong cursor;
+        
+        private final long end;
+        
+        private final long prefetchThreshold;
+        
+        Segment(final long start, final long end, final long prefetchThreshold) {
+            cursor = new AtomicLong(start);
+            this.end = end;
+            this.prefetchThreshold = prefetchThreshold;
+        }
+    }
 }
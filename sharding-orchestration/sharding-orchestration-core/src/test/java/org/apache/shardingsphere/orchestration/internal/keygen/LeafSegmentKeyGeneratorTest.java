@@ -30,6 +30,8 @@ import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -202,6 +204,39 @@ public final class LeafSegmentKeyGeneratorTest {
         assertThat(actual.size(), is(taskNumber));
     }
     
+    @Test
+    public void assertGenerateKeyAcrossSegmentsWithMultipleThreads() throws Exception {
+        int threadNumber = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threadNumber);
+        Properties properties = new Properties();
+        properties.setProperty("serverList", "127.0.0.1:2181");
+        properties.setProperty("initialValue", "1");
+        properties.setProperty("step", "3");
+        properties.setProperty("leafKey", "test_table_8");
+        properties.setProperty("registryCenterType", "ThirdTestRegistryCenter");
+        leafSegmentKeyGenerator.setProperties(properties);
+        List<Future<List<Comparable<?>>>> futures = new ArrayList<>();
+        for (int i = 0; i < threadNumber; i++) {
+            futures.add(executor.submit(new Callable<List<Comparable<?>>>() {
+                
+                @Override
+                public List<Comparable<?>> call() {
+                    List<Comparable<?>> result = new ArrayList<>();
+                    for (int i = 0; i < 500; i++) {
+                        result.add(leafSegmentKeyGenerator.generateKey());
+                    }
+                    return result;
+                }
+            }));
+        }
+        Set<Comparable<?>> actual = new HashSet<>();
+        for (Future<List<Comparable<?>>> each : futures) {
+            actual.addAll(each.get());
+        }
+        executor.shutdown();
+        assertThat(actual.size(), is(threadNumber * 500));
+    }
+    
     @Test(expected = IllegalArgumentException.class)
     public void assertSetStepFailureWhenNegative() {
         Properties properties = new Properties();
@@ -331,4 +366,21 @@ public final class LeafSegmentKeyGeneratorTest {
         leafSegmentKeyGenerator.setProperties(properties);
         leafSegmentKeyGenerator.generateKey();
     }
+    
+    @Test
+    public void assertAdjustStepWhenSegmentExhaustedQuickly() {
+        assertThat(LeafSegmentKeyGenerator.adjustStep(10000L, 10000L, TimeUnit.MINUTES.toNanos(10L)), is(20000L));
+        assertThat(LeafSegmentKeyGenerator.adjustStep(800000L, 10000L, TimeUnit.MINUTES.toNanos(10L)), is(800000L));
+    }
+    
+    @Test
+    public void assertAdjustStepWhenSegmentExhaustedSlowly() {
+        assertThat(LeafSegmentKeyGenerator.adjustStep(40000L, 10000L, TimeUnit.MINUTES.toNanos(40L)), is(20000L));
+        assertThat(LeafSegmentKeyGenerator.adjustStep(10000L, 10000L, TimeUnit.MINUTES.toNanos(40L)), is(10000L));
+    }
+    
+    @Test
+    public void assertAdjustStepWhenSegmentExhaustedInExpectedDuration() {
+        assertThat(LeafSegmentKeyGenerator.adjustStep(40000L, 10000L, TimeUnit.MINUTES.toNanos(20L)), is(40000L));
+    }
 }
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.orchestration.internal.keygen;
+
+import org.apache.curator.test.TestingServer;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class LeafSegmentKeyGeneratorWithZookeeperTest {
+    
+    private static TestingServer testingServer;
+    
+    @BeforeClass
+    public static void startTestingServer() throws Exception {
+        testingServer = new TestingServer();
+    }
+    
+    @AfterClass
+    public static void closeTestingServer() throws IOException {
+        testingServer.close();
+    }
+    
+    @Test
+    public void assertGenerateKeyAcrossSegments() {
+        LeafSegmentKeyGenerator leafSegmentKeyGenerator = createLeafSegmentKeyGenerator("test_table_1");
+        List<Comparable<?>> expected = new ArrayList<>(100);
+        List<Comparable<?>> actual = new ArrayList<>(100);
+        for (long i = 100001L; i <= 100100L; i++) {
+            expected.add(i);
+            actual.add(leafSegmentKeyGenerator.generateKey());
+        }
+        assertThat(actual, is(expected));
+    }
+    
+    @Test
+    public void assertGenerateKeyWithMultipleThreadsAndGenerators() throws Exception {
+        final LeafSegmentKeyGenerator first = createLeafSegmentKeyGenerator("test_table_2");
+        final LeafSegmentKeyGenerator second = createLeafSegmentKeyGenerator("test_table_2");
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        Collection<Future<Comparable<?>>> futures = new ArrayList<>(400);
+        for (int i = 0; i < 400; i++) {
+            final LeafSegmentKeyGenerator each = 0 == i % 2 ? first : second;
+            futures.add(executor.submit(new Callable<Comparable<?>>() {
+                
+                @Override
+                public Comparable<?> call() {
+                    return each.generateKey();
+                }
+            }));
+        }
+        Set<Comparable<?>> actual = new HashSet<>(400);
+        for (Future<Comparable<?>> each : futures) {
+            actual.add(each.get());
+        }
+        executor.shutdown();
+        assertThat(actual.size(), is(400));
+    }
+    
+    private LeafSegmentKeyGenerator createLeafSegmentKeyGenerator(final String leafKey) {
+        Properties properties = new Properties();
+        properties.setProperty("serverList", testingServer.getConnectString());
+        properties.setProperty("initialValue", "100001");
+        properties.setProperty("step", "3");
+        properties.setProperty("leafKey", leafKey);
+        properties.setProperty("registryCenterType", "zookeeper");
+        LeafSegmentKeyGenerator result = new LeafSegmentKeyGenerator();
+        result.setProperties(properties);
+        return result;
+    }
+}
@@ -42,6 +42,7 @@ import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchema;
 import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchemas;
 import org.apache.shardingsphere.shardingproxy.backend.schema.impl.EncryptSchema;
 import org.apache.shardingsphere.shardingproxy.backend.schema.impl.ShardingSchema;
+import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 import org.apache.shardingsphere.transaction.core.TransactionType;
 
 import java.sql.SQLException;
@@ -125,7 +126,8 @@ public final class JDBCDatabaseCommunicationEngine implements DatabaseCommunicat
     
     private void setMergedResult(final SQLRouteResult routeResult) throws SQLException {
         mergedResult = MergeEngineFactory.newInstance(LogicSchemas.getInstance().getDatabaseType(),
-                logicSchema.getShardingRule(), routeResult, logicSchema.getMetaData().getTables(), ((QueryResponse) response).getQueryResults()).merge();
+                logicSchema.getShardingRule(), routeResult, logicSchema.getMetaData().getTables(), ((QueryResponse) response).getQueryResults(), 
+                ShardingProxyContext.getInstance().getShardingProperties()).merge();
     }
     
     private void resetColumnLabelForShowTablesMergedResult() {
@@ -36,14 +36,19 @@ public class ResourceSynchronizer {
     private final Condition condition = lock.newCondition();
     
     /**
-     * Do await.
-     *
+     * Do await until notified or default timeout milliseconds elapsed.
+     * 
+     * <p>
+     * The wait is bounded so that a notification sent before waiting cannot park the caller forever,
+     * callers should check their condition again after returned.
+     * </p>
      */
     public void doAwait() {
         lock.lock();
         try {
-            condition.await();
+            condition.await(DEFAULT_TIMEOUT_MILLISECONDS, TimeUnit.MILLISECONDS);
         } catch (final InterruptedException ignore) {
+            Thread.currentThread().interrupt();
         } finally {
             lock.unlock();
         }
@@ -24,8 +24,10 @@ import org.apache.shardingsphere.core.execute.StatementExecuteUnit;
 import org.apache.shardingsphere.core.execute.sql.execute.SQLExecuteTemplate;
 import org.apache.shardingsphere.core.execute.sql.execute.threadlocal.ExecutorExceptionHandler;
 import org.apache.shardingsphere.core.execute.sql.prepare.SQLExecutePrepareTemplate;
+import org.apache.shardingsphere.core.metadata.datasource.DataSourceMetas;
 import org.apache.shardingsphere.core.parse.sql.statement.dml.InsertStatement;
 import org.apache.shardingsphere.core.route.SQLRouteResult;
+import org.apache.shardingsphere.core.rule.MasterSlaveRule;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execute.callback.ProxyJDBCExecutePrepareCallback;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execute.callback.ProxySQLExecuteCallback;
@@ -37,10 +39,13 @@ import org.apache.shardingsphere.shardingproxy.backend.response.BackendResponse;
 import org.apache.shardingsphere.shardingproxy.backend.response.query.QueryHeader;
 import org.apache.shardingsphere.shardingproxy.backend.response.query.QueryResponse;
 import org.apache.shardingsphere.shardingproxy.backend.response.update.UpdateResponse;
+import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchema;
+import org.apache.shardingsphere.shardingproxy.backend.schema.impl.MasterSlaveSchema;
 import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -66,8 +71,20 @@ public final class JDBCExecuteEngine implements SQLExecuteEngine {
         this.backendConnection = backendConnection;
         this.jdbcExecutorWrapper = jdbcExecutorWrapper;
         int maxConnectionsSizePerQuery = ShardingProxyContext.getInstance().getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.MAX_CONNECTIONS_SIZE_PER_QUERY);
-        sqlExecutePrepareTemplate = new SQLExecutePrepareTemplate(maxConnectionsSizePerQuery);
-        sqlExecuteTemplate = new SQLExecuteTemplate(BackendExecutorContext.getInstance().getExecuteEngine(), backendConnection.isSerialExecute());
+        sqlExecutePrepareTemplate = new SQLExecutePrepareTemplate(maxConnectionsSizePerQuery, getDataSourceMetas(backendConnection.getLogicSchema()));
+        sqlExecuteTemplate = new SQLExecuteTemplate(
+                BackendExecutorContext.getInstance().getExecuteEngine(), backendConnection.isSerialExecute(), getMasterSlaveRules(backendConnection.getLogicSchema()));
+    }
+    
+    private DataSourceMetas getDataSourceMetas(final LogicSchema logicSchema) {
+        return null == logicSchema || null == logicSchema.getMetaData() ? null : logicSchema.getMetaData().getDataSources();
+    }
+    
+    private Collection<MasterSlaveRule> getMasterSlaveRules(final LogicSchema logicSchema) {
+        if (logicSchema instanceof MasterSlaveSchema) {
+            return Collections.singletonList(((MasterSlaveSchema) logicSchema).getMasterSlaveRule());
+        }
+        return null == logicSchema || null == logicSchema.getShardingRule() ? Collections.<MasterSlaveRule>emptyList() : logicSchema.getShardingRule().getMasterSlaveRules();
     }
     
     @SuppressWarnings("unchecked")
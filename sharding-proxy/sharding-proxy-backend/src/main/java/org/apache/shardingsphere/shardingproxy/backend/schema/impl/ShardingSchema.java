@@ -21,6 +21,10 @@ import com.google.common.base.Optional;
 import com.google.common.eventbus.Subscribe;
 import lombok.Getter;
 import org.apache.shardingsphere.api.config.sharding.ShardingRuleConfiguration;
+import org.apache.shardingsphere.core.constant.properties.ShardingProperties;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import org.apache.shardingsphere.core.execute.metadata.TableMetaDataInitializer;
+import org.apache.shardingsphere.core.execute.metadata.TableMetaDataSnapshot;
 import org.apache.shardingsphere.core.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.core.metadata.datasource.DataSourceMetas;
 import org.apache.shardingsphere.core.metadata.table.TableMetas;
@@ -42,6 +46,7 @@ import org.apache.shardingsphere.orchestration.internal.rule.OrchestrationShardi
 import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchema;
 import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchemas;
 import org.apache.shardingsphere.shardingproxy.config.yaml.YamlDataSourceParameter;
+import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 
 import java.sql.SQLException;
 import java.util.Collection;
@@ -78,8 +83,17 @@ public final class ShardingSchema extends LogicSchema {
     
     private ShardingSphereMetaData createMetaData() throws SQLException {
         DataSourceMetas dataSourceMetas = new DataSourceMetas(getDataSourceURLs(getDataSources()), LogicSchemas.getInstance().getDatabaseType());
-        TableMetas tableMetas = new TableMetas(getTableMetaDataInitializer(dataSourceMetas).load(shardingRule));
-        return new ShardingSphereMetaData(dataSourceMetas, tableMetas);
+        return new ShardingSphereMetaData(dataSourceMetas, loadTableMetas(getTableMetaDataInitializer(dataSourceMetas)));
+    }
+    
+    private TableMetas loadTableMetas(final TableMetaDataInitializer tableMetaDataInitializer) throws SQLException {
+        ShardingProperties shardingProperties = ShardingProxyContext.getInstance().getShardingProperties();
+        if (shardingProperties.<Boolean>getValue(ShardingPropertiesConstant.METADATA_LAZY_LOADING_ENABLED)) {
+            return tableMetaDataInitializer.loadLazily(shardingRule, shardingProperties.<Long>getValue(ShardingPropertiesConstant.METADATA_LAZY_LOADING_MAX_SIZE));
+        }
+        String snapshotDirectory = shardingProperties.getValue(ShardingPropertiesConstant.METADATA_SNAPSHOT_DIRECTORY);
+        return snapshotDirectory.isEmpty()
+                ? new TableMetas(tableMetaDataInitializer.load(shardingRule)) : tableMetaDataInitializer.load(shardingRule, new TableMetaDataSnapshot(snapshotDirectory, getName()));
     }
     
     /**
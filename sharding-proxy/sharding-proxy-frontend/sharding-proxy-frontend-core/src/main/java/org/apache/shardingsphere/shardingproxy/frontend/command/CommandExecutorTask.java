@@ -55,7 +55,7 @@ public final class CommandExecutorTask implements Runnable {
     
     @Override
     public void run() {
-        RootInvokeHook rootInvokeHook = new SPIRootInvokeHook();
+        RootInvokeHook rootInvokeHook = SPIRootInvokeHook.newInstance();
         rootInvokeHook.start();
         int connectionSize = 0;
         boolean isNeedFlush = false;
@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.command;
+
+import io.netty.channel.ChannelHandlerContext;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+
+import java.sql.SQLException;
+
+/**
+ * Write back pressure for streaming query data to frontend.
+ * 
+ * <p>
+ * The command thread is parked while the frontend channel is unwritable, and is woken up by channel writability change
+ * or after timeout of resource synchronizer. Streams are not resumed from event loop, because command thread owns backend connection until whole result is written.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class WriteBackPressure {
+    
+    /**
+     * Wait until channel is writable or inactive.
+     * 
+     * @param context channel handler context
+     * @param backendConnection backend connection
+     * @throws SQLException SQL exception if current thread is interrupted while channel is unwritable
+     */
+    public static void awaitWritable(final ChannelHandlerContext context, final BackendConnection backendConnection) throws SQLException {
+        while (!context.channel().isWritable() && context.channel().isActive()) {
+            if (Thread.currentThread().isInterrupted()) {
+                throw new SQLException("Interrupted while waiting for frontend channel to be writable.");
+            }
+            context.flush();
+            backendConnection.getResourceSynchronizer().doAwait();
+        }
+    }
+}
@@ -17,14 +17,20 @@
 
 package org.apache.shardingsphere.shardingproxy.frontend.executor;
 
+import com.google.common.base.Optional;
 import io.netty.channel.ChannelId;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.core.constant.properties.ShardingPropertiesConstant;
+import org.apache.shardingsphere.core.execute.ShardingThreadFactoryBuilder;
+import org.apache.shardingsphere.core.execute.VirtualThreadExecutors;
+import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
 
 /**
  * Channel thread executor group.
@@ -32,6 +38,8 @@ import java.util.concurrent.Executors;
  * <p>
  *     Manage the thread for each channel invoking.
  *     This ensure XA transaction framework processed by current thread id.
+ *     The thread of channel is created on first use, so channels which never need it do not hold a thread.
+ *     Channels which only need their commands executed in order share the user executor group by serial executor service.
  * </p>
  * 
  * @author zhaojun
@@ -40,9 +48,23 @@ import java.util.concurrent.Executors;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class ChannelThreadExecutorGroup {
     
+    private static final String NAME_FORMAT = "Command-Channel-%d";
+    
     private static final ChannelThreadExecutorGroup INSTANCE = new ChannelThreadExecutorGroup();
     
-    private final Map<ChannelId, ExecutorService> executorServices = new ConcurrentHashMap<>();
+    private final ThreadFactory threadFactory = createThreadFactory();
+    
+    private final Map<ChannelId, ChannelExecutors> channelExecutors = new ConcurrentHashMap<>();
+    
+    private static ThreadFactory createThreadFactory() {
+        if (ShardingProxyContext.getInstance().getShardingProperties().<Boolean>getValue(ShardingPropertiesConstant.EXECUTOR_VIRTUAL_THREAD_ENABLED)) {
+            Optional<ThreadFactory> result = VirtualThreadExecutors.newThreadFactory(NAME_FORMAT);
+            if (result.isPresent()) {
+                return result.get();
+            }
+        }
+        return ShardingThreadFactoryBuilder.build(NAME_FORMAT);
+    }
     
     /**
      * Get channel thread executor group.
@@ -59,17 +81,52 @@ public final class ChannelThreadExecutorGroup {
      * @param channelId channel id
      */
     public void register(final ChannelId channelId) {
-        executorServices.put(channelId, Executors.newSingleThreadExecutor());
+        channelExecutors.put(channelId, new ChannelExecutors());
     }
     
     /**
      * Get executor service of current channel.
+     * 
+     * <p>
+     *     All tasks of the channel are executed by the same thread.
+     * </p>
      *
      * @param channelId channel id
      * @return executor service of current channel
      */
     public ExecutorService get(final ChannelId channelId) {
-        return executorServices.get(channelId);
+        ChannelExecutors result = channelExecutors.get(channelId);
+        return null == result ? null : result.getThreadExecutorService(threadFactory);
+    }
+    
+    /**
+     * Get serial executor service of current channel.
+     * 
+     * <p>
+     *     Tasks of the channel are executed one by one in order, but not always by the same thread.
+     * </p>
+     *
+     * @param channelId channel id
+     * @return serial executor service of current channel
+     */
+    public ExecutorService getSerial(final ChannelId channelId) {
+        ChannelExecutors result = channelExecutors.get(channelId);
+        return null == result ? null : result.getSerialExecutorService();
+    }
+    
+    /**
+     * Get count of created channel threads.
+     *
+     * @return count of created channel threads
+     */
+    public int getThreadCount() {
+        int result = 0;
+        for (ChannelExecutors each : channelExecutors.values()) {
+            if (each.isThreadCreated()) {
+                result++;
+            }
+        }
+        return result;
     }
     
     /**
@@ -78,6 +135,51 @@ public final class ChannelThreadExecutorGroup {
      * @param channelId channel id
      */
     public void unregister(final ChannelId channelId) {
-        executorServices.remove(channelId).shutdown();
+        ChannelExecutors executors = channelExecutors.remove(channelId);
+        if (null != executors) {
+            executors.shutdown();
+        }
+    }
+    
+    private static final class ChannelExecutors {
+        
+        private volatile ExecutorService threadExecutorService;
+        
+        private volatile ExecutorService serialExecutorService;
+        
+        private boolean isThreadCreated() {
+            return null != threadExecutorService;
+        }
+        
+        private ExecutorService getThreadExecutorService(final ThreadFactory threadFactory) {
+            if (null == threadExecutorService) {
+                synchronized (this) {
+                    if (null == threadExecutorService) {
+                        threadExecutorService = Executors.newSingleThreadExecutor(threadFactory);
+                    }
+                }
+            }
+            return threadExecutorService;
+        }
+        
+        private ExecutorService getSerialExecutorService() {
+            if (null == serialExecutorService) {
+                synchronized (this) {
+                    if (null == serialExecutorService) {
+                        serialExecutorService = new SerialExecutorService(UserExecutorGroup.getInstance().getExecutorService());
+                    }
+                }
+            }
+            return serialExecutorService;
+        }
+        
+        private synchronized void shutdown() {
+            if (null != threadExecutorService) {
+                threadExecutorService.shutdown();
+            }
+            if (null != serialExecutorService) {
+                serialExecutorService.shutdown();
+            }
+        }
     }
 }
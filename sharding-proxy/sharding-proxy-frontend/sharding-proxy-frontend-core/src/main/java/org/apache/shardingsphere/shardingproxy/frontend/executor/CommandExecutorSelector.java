@@ -43,7 +43,9 @@ public final class CommandExecutorSelector {
      * @return executor service
      */
     public static ExecutorService getExecutor(final boolean isOccupyThreadForPerConnection, final boolean supportHint, final TransactionType transactionType, final ChannelId channelId) {
-        return (isOccupyThreadForPerConnection || supportHint || TransactionType.XA == transactionType || TransactionType.BASE == transactionType)
-                ? ChannelThreadExecutorGroup.getInstance().get(channelId) : UserExecutorGroup.getInstance().getExecutorService();
+        if (supportHint || TransactionType.XA == transactionType || TransactionType.BASE == transactionType) {
+            return ChannelThreadExecutorGroup.getInstance().get(channelId);
+        }
+        return isOccupyThreadForPerConnection ? ChannelThreadExecutorGroup.getInstance().getSerial(channelId) : UserExecutorGroup.getInstance().getExecutorService();
     }
 }
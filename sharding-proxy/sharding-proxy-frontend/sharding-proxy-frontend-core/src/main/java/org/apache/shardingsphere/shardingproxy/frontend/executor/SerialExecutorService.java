@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.executor;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Serial executor service.
+ * 
+ * <p>
+ *     Run submitted tasks one by one in submission order on a shared executor, without occupying a thread while idle.
+ *     Only one task is handed to the shared executor at a time, so other channels are not starved by a busy one.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class SerialExecutorService extends AbstractExecutorService {
+    
+    private final Executor executor;
+    
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    
+    private volatile boolean shutdown;
+    
+    private final Runnable drainTask = new Runnable() {
+        
+        @Override
+        public void run() {
+            try {
+                Runnable task = tasks.poll();
+                if (null != task) {
+                    task.run();
+                }
+            } finally {
+                scheduled.set(false);
+                if (!tasks.isEmpty()) {
+                    schedule();
+                }
+            }
+        }
+    };
+    
+    @Override
+    public void execute(final Runnable command) {
+        if (shutdown) {
+            throw new RejectedExecutionException("Serial executor service has been shut down.");
+        }
+        tasks.offer(command);
+        schedule();
+    }
+    
+    private void schedule() {
+        if (!scheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(drainTask);
+        } catch (final RejectedExecutionException ex) {
+            scheduled.set(false);
+            throw ex;
+        }
+    }
+    
+    @Override
+    public void shutdown() {
+        shutdown = true;
+    }
+    
+    @Override
+    public List<Runnable> shutdownNow() {
+        shutdown = true;
+        List<Runnable> result = new LinkedList<>();
+        Runnable each;
+        while (null != (each = tasks.poll())) {
+            result.add(each);
+        }
+        return result;
+    }
+    
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+    
+    @Override
+    public boolean isTerminated() {
+        return shutdown && tasks.isEmpty() && !scheduled.get();
+    }
+    
+    @Override
+    public boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (!isTerminated()) {
+            if (System.nanoTime() >= deadline) {
+                return false;
+            }
+            TimeUnit.MILLISECONDS.sleep(1L);
+        }
+        return true;
+    }
+}
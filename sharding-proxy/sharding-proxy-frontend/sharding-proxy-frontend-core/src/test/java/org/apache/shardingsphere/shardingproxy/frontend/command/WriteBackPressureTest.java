@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.command;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.ResourceSynchronizer;
+import org.junit.Test;
+
+import java.sql.SQLException;
+
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class WriteBackPressureTest {
+    
+    @Test
+    public void assertAwaitWritableWhenWritable() throws SQLException {
+        ChannelHandlerContext context = mock(ChannelHandlerContext.class);
+        Channel channel = mock(Channel.class);
+        when(context.channel()).thenReturn(channel);
+        when(channel.isWritable()).thenReturn(true);
+        WriteBackPressure.awaitWritable(context, mock(BackendConnection.class));
+        verify(context, never()).flush();
+    }
+    
+    @Test
+    public void assertAwaitWritableWhenUnwritable() throws SQLException {
+        ChannelHandlerContext context = mock(ChannelHandlerContext.class);
+        Channel channel = mock(Channel.class);
+        when(context.channel()).thenReturn(channel);
+        when(channel.isWritable()).thenReturn(false, false, true);
+        when(channel.isActive()).thenReturn(true);
+        BackendConnection backendConnection = mock(BackendConnection.class);
+        when(backendConnection.getResourceSynchronizer()).thenReturn(new ResourceSynchronizer());
+        WriteBackPressure.awaitWritable(context, backendConnection);
+        verify(context, times(2)).flush();
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertAwaitWritableWhenInterrupted() throws SQLException {
+        ChannelHandlerContext context = mock(ChannelHandlerContext.class);
+        Channel channel = mock(Channel.class);
+        when(context.channel()).thenReturn(channel);
+        when(channel.isWritable()).thenReturn(false);
+        when(channel.isActive()).thenReturn(true);
+        BackendConnection backendConnection = mock(BackendConnection.class);
+        when(backendConnection.getResourceSynchronizer()).thenReturn(new ResourceSynchronizer());
+        Thread.currentThread().interrupt();
+        try {
+            WriteBackPressure.awaitWritable(context, backendConnection);
+        } finally {
+            verify(context, never()).flush();
+            assertTrue(Thread.interrupted());
+        }
+    }
+}
@@ -20,8 +20,11 @@ package org.apache.shardingsphere.shardingproxy.frontend.executor;
 import io.netty.channel.ChannelId;
 import org.junit.Test;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.mock;
 
 public final class ChannelThreadExecutorGroupTest {
@@ -41,4 +44,25 @@ public final class ChannelThreadExecutorGroupTest {
         ChannelThreadExecutorGroup.getInstance().unregister(channelId);
         assertNull(ChannelThreadExecutorGroup.getInstance().get(channelId));
     }
+    
+    @Test
+    public void assertGetCreatesThreadLazily() {
+        ChannelId channelId = mock(ChannelId.class);
+        int threadCount = ChannelThreadExecutorGroup.getInstance().getThreadCount();
+        ChannelThreadExecutorGroup.getInstance().register(channelId);
+        assertThat(ChannelThreadExecutorGroup.getInstance().getThreadCount(), is(threadCount));
+        assertThat(ChannelThreadExecutorGroup.getInstance().get(channelId), sameInstance(ChannelThreadExecutorGroup.getInstance().get(channelId)));
+        assertThat(ChannelThreadExecutorGroup.getInstance().getThreadCount(), is(threadCount + 1));
+        ChannelThreadExecutorGroup.getInstance().unregister(channelId);
+        assertThat(ChannelThreadExecutorGroup.getInstance().getThreadCount(), is(threadCount));
+    }
+    
+    @Test
+    public void assertGetSerial() {
+        ChannelId channelId = mock(ChannelId.class);
+        ChannelThreadExecutorGroup.getInstance().register(channelId);
+        assertThat(ChannelThreadExecutorGroup.getInstance().getSerial(channelId), sameInstance(ChannelThreadExecutorGroup.getInstance().getSerial(channelId)));
+        ChannelThreadExecutorGroup.getInstance().unregister(channelId);
+        assertNull(ChannelThreadExecutorGroup.getInstance().getSerial(channelId));
+    }
 }
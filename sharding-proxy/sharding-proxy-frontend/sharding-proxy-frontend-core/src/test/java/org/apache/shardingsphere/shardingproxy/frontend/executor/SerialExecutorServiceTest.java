@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.shardingproxy.frontend.executor;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SerialExecutorServiceTest {
+    
+    private ExecutorService sharedExecutorService;
+    
+    @Before
+    public void setUp() {
+        sharedExecutorService = Executors.newFixedThreadPool(4);
+    }
+    
+    @After
+    public void tearDown() {
+        sharedExecutorService.shutdownNow();
+    }
+    
+    @Test
+    public void assertExecuteInOrderWithoutOverlap() throws InterruptedException {
+        SerialExecutorService serialExecutorService = new SerialExecutorService(sharedExecutorService);
+        final List<Integer> actual = Collections.synchronizedList(new ArrayList<Integer>());
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+        for (int i = 0; i < 1000; i++) {
+            final int index = i;
+            serialExecutorService.execute(new Runnable() {
+                
+                @Override
+                public void run() {
+                    int current = running.incrementAndGet();
+                    if (current > maxRunning.get()) {
+                        maxRunning.set(current);
+                    }
+                    actual.add(index);
+                    running.decrementAndGet();
+                }
+            });
+        }
+        serialExecutorService.shutdown();
+        assertTrue(serialExecutorService.awaitTermination(10, TimeUnit.SECONDS));
+        assertThat(actual.size(), is(1000));
+        for (int i = 0; i < 1000; i++) {
+            assertThat(actual.get(i), is(i));
+        }
+        assertThat(maxRunning.get(), is(1));
+    }
+    
+    @Test(expected = RejectedExecutionException.class)
+    public void assertExecuteAfterShutdown() {
+        SerialExecutorService serialExecutorService = new SerialExecutorService(sharedExecutorService);
+        serialExecutorService.shutdown();
+        serialExecutorService.execute(new Runnable() {
+            
+            @Override
+            public void run() {
+            }
+        });
+    }
+    
+    @Test
+    public void assertShutdownNow() {
+        SerialExecutorService serialExecutorService = new SerialExecutorService(sharedExecutorService);
+        assertFalse(serialExecutorService.isShutdown());
+        assertTrue(serialExecutorService.shutdownNow().isEmpty());
+        assertTrue(serialExecutorService.isShutdown());
+    }
+}
@@ -23,6 +23,7 @@ import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connec
 import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 import org.apache.shardingsphere.shardingproxy.frontend.api.CommandExecutor;
 import org.apache.shardingsphere.shardingproxy.frontend.api.QueryCommandExecutor;
+import org.apache.shardingsphere.shardingproxy.frontend.command.WriteBackPressure;
 import org.apache.shardingsphere.shardingproxy.frontend.engine.CommandExecuteEngine;
 import org.apache.shardingsphere.shardingproxy.transport.packet.CommandPacket;
 import org.apache.shardingsphere.shardingproxy.transport.packet.CommandPacketType;
@@ -78,10 +79,7 @@ public final class PostgreSQLCommandExecuteEngine implements CommandExecuteEngin
         int proxyFrontendFlushThreshold = ShardingProxyContext.getInstance().getShardingProperties().<Integer>getValue(ShardingPropertiesConstant.PROXY_FRONTEND_FLUSH_THRESHOLD);
         while (queryCommandExecutor.next()) {
             count++;
-            while (!context.channel().isWritable() && context.channel().isActive()) {
-                context.flush();
-                backendConnection.getResourceSynchronizer().doAwait();
-            }
+            WriteBackPressure.awaitWritable(context, backendConnection);
             DatabasePacket resultValue = queryCommandExecutor.getQueryData();
             context.write(resultValue);
             if (proxyFrontendFlushThreshold == count) {
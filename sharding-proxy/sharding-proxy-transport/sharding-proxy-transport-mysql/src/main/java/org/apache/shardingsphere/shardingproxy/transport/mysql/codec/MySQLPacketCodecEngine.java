@@ -18,7 +18,9 @@
 package org.apache.shardingsphere.shardingproxy.transport.mysql.codec;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.util.AttributeKey;
 import org.apache.shardingsphere.shardingproxy.transport.codec.DatabasePacketCodecEngine;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.MySQLPacket;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.payload.MySQLPacketPayload;
@@ -28,10 +30,19 @@ import java.util.List;
 /**
  * Database packet codec for MySQL.
  * 
+ * <p>
+ * Packets are written straight into the outbound buffer and their header is back-patched,
+ * payloads of 16MB or more are split into continuation packets.
+ * Sequence ids taken by continuation packets are added to the following packets of the same command,
+ * because executors assign sequence ids before packets are encoded.
+ * </p>
+ * 
  * @author zhangliang 
  */
 public final class MySQLPacketCodecEngine implements DatabasePacketCodecEngine<MySQLPacket> {
     
+    private static final AttributeKey<Integer> SEQUENCE_ID_OFFSET = AttributeKey.valueOf(MySQLPacketCodecEngine.class, "SEQUENCE_ID_OFFSET");
+    
     @Override
     public boolean isValidHeader(final int readableBytes) {
         return readableBytes > MySQLPacket.PAYLOAD_LENGTH + MySQLPacket.SEQUENCE_LENGTH;
@@ -46,15 +57,55 @@ public final class MySQLPacketCodecEngine implements DatabasePacketCodecEngine<M
             return;
         }
         out.add(in.readRetainedSlice(payloadLength + MySQLPacket.SEQUENCE_LENGTH));
+        resetSequenceIdOffset(context.channel());
+    }
+    
+    private void resetSequenceIdOffset(final Channel channel) {
+        if (channel.hasAttr(SEQUENCE_ID_OFFSET)) {
+            channel.attr(SEQUENCE_ID_OFFSET).set(null);
+        }
     }
     
     @Override
     public void encode(final ChannelHandlerContext context, final MySQLPacket message, final ByteBuf out) {
-        try (MySQLPacketPayload payload = new MySQLPacketPayload(context.alloc().buffer())) {
-            message.write(payload);
-            out.writeMediumLE(payload.getByteBuf().readableBytes());
-            out.writeByte(message.getSequenceId());
-            out.writeBytes(payload.getByteBuf());
+        int headerIndex = out.writerIndex();
+        out.writeZero(MySQLPacket.PAYLOAD_LENGTH + MySQLPacket.SEQUENCE_LENGTH);
+        message.write(new MySQLPacketPayload(out));
+        int payloadLength = out.writerIndex() - headerIndex - MySQLPacket.PAYLOAD_LENGTH - MySQLPacket.SEQUENCE_LENGTH;
+        Channel channel = context.channel();
+        int sequenceId = message.getSequenceId() + getSequenceIdOffset(channel);
+        if (payloadLength < MySQLPacket.MAX_PAYLOAD_LENGTH) {
+            out.setMediumLE(headerIndex, payloadLength);
+            out.setByte(headerIndex + MySQLPacket.PAYLOAD_LENGTH, sequenceId);
+            return;
+        }
+        int continuationPacketCount = splitPayload(sequenceId, out, headerIndex, payloadLength);
+        channel.attr(SEQUENCE_ID_OFFSET).set(getSequenceIdOffset(channel) + continuationPacketCount);
+    }
+    
+    private int getSequenceIdOffset(final Channel channel) {
+        if (!channel.hasAttr(SEQUENCE_ID_OFFSET)) {
+            return 0;
+        }
+        Integer result = channel.attr(SEQUENCE_ID_OFFSET).get();
+        return null == result ? 0 : result;
+    }
+    
+    private int splitPayload(final int sequenceId, final ByteBuf out, final int headerIndex, final int payloadLength) {
+        ByteBuf payload = out.copy(headerIndex + MySQLPacket.PAYLOAD_LENGTH + MySQLPacket.SEQUENCE_LENGTH, payloadLength);
+        try {
+            out.writerIndex(headerIndex);
+            int currentSequenceId = sequenceId;
+            int packetLength;
+            do {
+                packetLength = Math.min(payload.readableBytes(), MySQLPacket.MAX_PAYLOAD_LENGTH);
+                out.writeMediumLE(packetLength);
+                out.writeByte(currentSequenceId++);
+                out.writeBytes(payload, packetLength);
+            } while (MySQLPacket.MAX_PAYLOAD_LENGTH == packetLength);
+            return currentSequenceId - sequenceId - 1;
+        } finally {
+            payload.release();
         }
     }
     
@@ -31,6 +31,8 @@ public interface MySQLPacket extends DatabasePacket<MySQLPacketPayload> {
     
     int SEQUENCE_LENGTH = 1;
     
+    int MAX_PAYLOAD_LENGTH = 0xFFFFFF;
+    
     /**
      * Get sequence ID.
      *
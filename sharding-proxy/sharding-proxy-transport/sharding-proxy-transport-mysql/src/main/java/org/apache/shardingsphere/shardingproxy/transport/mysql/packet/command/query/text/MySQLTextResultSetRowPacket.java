@@ -23,6 +23,8 @@ import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.MySQLPacke
 import org.apache.shardingsphere.shardingproxy.transport.mysql.payload.MySQLPacketPayload;
 
 import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Time;
 import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.List;
@@ -39,6 +41,10 @@ public final class MySQLTextResultSetRowPacket implements MySQLPacket {
     
     private static final int NULL = 0xfb;
     
+    private static final byte[] TRUE = {1};
+    
+    private static final byte[] FALSE = {0};
+    
     @Getter
     private final int sequenceId;
     
@@ -58,18 +64,28 @@ public final class MySQLTextResultSetRowPacket implements MySQLPacket {
             if (null == each) {
                 payload.writeInt1(NULL);
             } else {
-                if (each instanceof byte[]) {
-                    payload.writeBytesLenenc((byte[]) each);
-                } else if (each instanceof Timestamp) {
-                    payload.writeStringLenenc(each.toString().split("\\.")[0]);
-                } else if (each instanceof BigDecimal) {
-                    payload.writeStringLenenc(((BigDecimal) each).toPlainString());
-                } else if (each instanceof Boolean) {
-                    payload.writeBytesLenenc((Boolean) each ? new byte[]{1} : new byte[]{0});
-                } else {
-                    payload.writeStringLenenc(each.toString());
-                }
+                writeValue(payload, each);
             }
         }
     }
+    
+    private void writeValue(final MySQLPacketPayload payload, final Object value) {
+        if (value instanceof byte[]) {
+            payload.writeBytesLenenc((byte[]) value);
+        } else if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            payload.writeLongAsStringLenenc(((Number) value).longValue());
+        } else if (value instanceof BigDecimal) {
+            payload.writeDecimalAsStringLenenc((BigDecimal) value);
+        } else if (value instanceof Timestamp) {
+            payload.writeTimestampAsStringLenenc((Timestamp) value);
+        } else if (value instanceof Date) {
+            payload.writeDateAsStringLenenc((Date) value);
+        } else if (value instanceof Time) {
+            payload.writeTimeAsStringLenenc((Time) value);
+        } else if (value instanceof Boolean) {
+            payload.writeBytesLenenc((Boolean) value ? TRUE : FALSE);
+        } else {
+            payload.writeStringLenenc(value.toString());
+        }
+    }
 }
@@ -23,6 +23,11 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.shardingproxy.transport.payload.PacketPayload;
 
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+
 /**
  * MySQL payload operation for MySQL packet data types.
  *
@@ -36,6 +41,10 @@ import org.apache.shardingsphere.shardingproxy.transport.payload.PacketPayload;
 @Getter
 public final class MySQLPacketPayload implements PacketPayload {
     
+    private static final long[] POWERS_OF_TEN = {
+        1L, 10L, 100L, 1000L, 10000L, 100000L, 1000000L, 10000000L, 100000000L, 1000000000L, 10000000000L, 100000000000L, 1000000000000L,
+        10000000000000L, 100000000000000L, 1000000000000000L, 10000000000000000L, 100000000000000000L, 1000000000000000000L};
+    
     private final ByteBuf byteBuf;
     
     /**
@@ -263,8 +272,147 @@ public final class MySQLPacketPayload implements PacketPayload {
             byteBuf.writeByte(0);
             return;
         }
-        writeIntLenenc(value.getBytes().length);
-        byteBuf.writeBytes(value.getBytes());
+        byte[] bytes = value.getBytes();
+        writeIntLenenc(bytes.length);
+        byteBuf.writeBytes(bytes);
+    }
+    
+    /**
+     * Write integer as lenenc string of ASCII digits to byte buffers.
+     *
+     * @see <a href="https://dev.mysql.com/doc/internals/en/com-query-response.html#packet-ProtocolText::ResultsetRow">ResultsetRow</a>
+     *
+     * @param value integer value
+     */
+    public void writeLongAsStringLenenc(final long value) {
+        if (Long.MIN_VALUE == value) {
+            writeStringLenenc(Long.toString(value));
+            return;
+        }
+        long absValue = Math.abs(value);
+        int digitCount = getDigitCount(absValue);
+        if (value < 0) {
+            byteBuf.writeByte(digitCount + 1);
+            byteBuf.writeByte('-');
+        } else {
+            byteBuf.writeByte(digitCount);
+        }
+        writeDigits(absValue, digitCount);
+    }
+    
+    /**
+     * Write decimal as lenenc plain string to byte buffers.
+     *
+     * @see <a href="https://dev.mysql.com/doc/internals/en/com-query-response.html#packet-ProtocolText::ResultsetRow">ResultsetRow</a>
+     *
+     * @param value decimal value
+     */
+    public void writeDecimalAsStringLenenc(final BigDecimal value) {
+        int scale = value.scale();
+        if (scale < 0 || scale >= POWERS_OF_TEN.length || value.precision() >= POWERS_OF_TEN.length) {
+            writeStringLenenc(value.toPlainString());
+            return;
+        }
+        long unscaledValue = value.unscaledValue().longValue();
+        long absValue = Math.abs(unscaledValue);
+        int digitCount = Math.max(getDigitCount(absValue), scale + 1);
+        byteBuf.writeByte(digitCount + (scale > 0 ? 1 : 0) + (unscaledValue < 0 ? 1 : 0));
+        if (unscaledValue < 0) {
+            byteBuf.writeByte('-');
+        }
+        if (0 == scale) {
+            writeDigits(absValue, digitCount);
+            return;
+        }
+        writeDigits(absValue / POWERS_OF_TEN[scale], digitCount - scale);
+        byteBuf.writeByte('.');
+        writeDigits(absValue % POWERS_OF_TEN[scale], scale);
+    }
+    
+    /**
+     * Write timestamp as lenenc string with format {@code yyyy-MM-dd HH:mm:ss} to byte buffers.
+     *
+     * @see <a href="https://dev.mysql.com/doc/internals/en/com-query-response.html#packet-ProtocolText::ResultsetRow">ResultsetRow</a>
+     *
+     * @param value timestamp value
+     */
+    @SuppressWarnings("deprecation")
+    public void writeTimestampAsStringLenenc(final Timestamp value) {
+        int year = value.getYear() + 1900;
+        if (year < 0 || year > 9999) {
+            writeStringLenenc(value.toString().split("\\.")[0]);
+            return;
+        }
+        byteBuf.writeByte(19);
+        writeDate(year, value.getMonth() + 1, value.getDate());
+        byteBuf.writeByte(' ');
+        writeTime(value.getHours(), value.getMinutes(), value.getSeconds());
+    }
+    
+    /**
+     * Write date as lenenc string with format {@code yyyy-MM-dd} to byte buffers.
+     *
+     * @see <a href="https://dev.mysql.com/doc/internals/en/com-query-response.html#packet-ProtocolText::ResultsetRow">ResultsetRow</a>
+     *
+     * @param value date value
+     */
+    @SuppressWarnings("deprecation")
+    public void writeDateAsStringLenenc(final Date value) {
+        int year = value.getYear() + 1900;
+        if (year < 0 || year > 9999) {
+            writeStringLenenc(value.toString());
+            return;
+        }
+        byteBuf.writeByte(10);
+        writeDate(year, value.getMonth() + 1, value.getDate());
+    }
+    
+    /**
+     * Write time as lenenc string with format {@code HH:mm:ss} to byte buffers.
+     *
+     * @see <a href="https://dev.mysql.com/doc/internals/en/com-query-response.html#packet-ProtocolText::ResultsetRow">ResultsetRow</a>
+     *
+     * @param value time value
+     */
+    @SuppressWarnings("deprecation")
+    public void writeTimeAsStringLenenc(final Time value) {
+        byteBuf.writeByte(8);
+        writeTime(value.getHours(), value.getMinutes(), value.getSeconds());
+    }
+    
+    private void writeDate(final int year, final int month, final int day) {
+        writeDigits(year, 4);
+        byteBuf.writeByte('-');
+        writeDigits(month, 2);
+        byteBuf.writeByte('-');
+        writeDigits(day, 2);
+    }
+    
+    private void writeTime(final int hours, final int minutes, final int seconds) {
+        writeDigits(hours, 2);
+        byteBuf.writeByte(':');
+        writeDigits(minutes, 2);
+        byteBuf.writeByte(':');
+        writeDigits(seconds, 2);
+    }
+    
+    private int getDigitCount(final long absValue) {
+        int result = 1;
+        while (result < POWERS_OF_TEN.length && absValue >= POWERS_OF_TEN[result]) {
+            result++;
+        }
+        return result;
+    }
+    
+    private void writeDigits(final long absValue, final int digitCount) {
+        byteBuf.ensureWritable(digitCount);
+        int writerIndex = byteBuf.writerIndex();
+        long value = absValue;
+        for (int i = writerIndex + digitCount - 1; i >= writerIndex; i--) {
+            byteBuf.setByte(i, '0' + (int) (value % 10));
+            value /= 10;
+        }
+        byteBuf.writerIndex(writerIndex + digitCount);
     }
     
     /**
@@ -18,13 +18,15 @@
 package org.apache.shardingsphere.shardingproxy.transport.mysql.codec;
 
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.embedded.EmbeddedChannel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.packet.MySQLPacket;
 import org.apache.shardingsphere.shardingproxy.transport.mysql.payload.MySQLPacketPayload;
 import org.junit.Test;
 import org.junit.runner.RunWith;
-import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
@@ -35,8 +37,6 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -63,6 +63,7 @@ public final class MySQLPacketCodecEngineTest {
         when(byteBuf.markReaderIndex()).thenReturn(byteBuf);
         when(byteBuf.readMediumLE()).thenReturn(50);
         when(byteBuf.readRetainedSlice(51)).thenReturn(byteBuf);
+        when(context.channel()).thenReturn(new EmbeddedChannel());
         List<Object> out = new LinkedList<>();
         new MySQLPacketCodecEngine().decode(context, byteBuf, out, 54);
         assertThat(out.size(), is(1));
@@ -79,22 +80,88 @@ public final class MySQLPacketCodecEngineTest {
     
     @Test
     public void assertEncode() {
-        ByteBufAllocator byteBufAllocator = mock(ByteBufAllocator.class);
-        when(context.alloc()).thenReturn(byteBufAllocator);
-        ByteBuf payloadByteBuf = mock(ByteBuf.class);
-        when(byteBufAllocator.buffer()).thenReturn(payloadByteBuf);
-        when(payloadByteBuf.readableBytes()).thenReturn(50);
-        MySQLPacket actualMessage = mock(MySQLPacket.class);
-        when(actualMessage.getSequenceId()).thenReturn(1);
-        new MySQLPacketCodecEngine().encode(context, actualMessage, byteBuf);
-        verify(actualMessage).write(ArgumentMatchers.<MySQLPacketPayload>any());
-        verify(byteBuf).writeMediumLE(50);
-        verify(byteBuf).writeByte(1);
-        verify(byteBuf).writeBytes(payloadByteBuf);
+        when(context.channel()).thenReturn(new EmbeddedChannel());
+        ByteBuf out = Unpooled.buffer();
+        new MySQLPacketCodecEngine().encode(context, new FixedLengthPacket(1, 50), out);
+        assertThat(out.readableBytes(), is(54));
+        assertThat(out.readMediumLE(), is(50));
+        assertThat(out.readByte(), is((byte) 1));
+        out.release();
+    }
+    
+    @Test
+    public void assertEncodeWithLargePayload() {
+        when(context.channel()).thenReturn(new EmbeddedChannel());
+        ByteBuf out = Unpooled.buffer();
+        new MySQLPacketCodecEngine().encode(context, new FixedLengthPacket(1, MySQLPacket.MAX_PAYLOAD_LENGTH + 10), out);
+        assertThat(out.readUnsignedMediumLE(), is(MySQLPacket.MAX_PAYLOAD_LENGTH));
+        assertThat(out.readByte(), is((byte) 1));
+        out.skipBytes(MySQLPacket.MAX_PAYLOAD_LENGTH);
+        assertThat(out.readMediumLE(), is(10));
+        assertThat(out.readByte(), is((byte) 2));
+        assertThat(out.readableBytes(), is(10));
+        out.release();
+    }
+    
+    @Test
+    public void assertEncodeWithPayloadOfMaxLength() {
+        when(context.channel()).thenReturn(new EmbeddedChannel());
+        ByteBuf out = Unpooled.buffer();
+        new MySQLPacketCodecEngine().encode(context, new FixedLengthPacket(1, MySQLPacket.MAX_PAYLOAD_LENGTH), out);
+        assertThat(out.readUnsignedMediumLE(), is(MySQLPacket.MAX_PAYLOAD_LENGTH));
+        out.skipBytes(1 + MySQLPacket.MAX_PAYLOAD_LENGTH);
+        assertThat(out.readMediumLE(), is(0));
+        assertThat(out.readByte(), is((byte) 2));
+        assertFalse(out.isReadable());
+        out.release();
+    }
+    
+    @Test
+    public void assertEncodeNextPacketAfterLargePayload() {
+        when(context.channel()).thenReturn(new EmbeddedChannel());
+        MySQLPacketCodecEngine codecEngine = new MySQLPacketCodecEngine();
+        ByteBuf out = Unpooled.buffer();
+        codecEngine.encode(context, new FixedLengthPacket(1, MySQLPacket.MAX_PAYLOAD_LENGTH * 2 + 10), out);
+        codecEngine.encode(context, new FixedLengthPacket(2, 50), out);
+        out.skipBytes((MySQLPacket.PAYLOAD_LENGTH + MySQLPacket.SEQUENCE_LENGTH) * 3 + MySQLPacket.MAX_PAYLOAD_LENGTH * 2 + 10);
+        assertThat(out.readMediumLE(), is(50));
+        assertThat(out.readByte(), is((byte) 4));
+        out.release();
+    }
+    
+    @Test
+    public void assertEncodeNextCommandAfterLargePayload() {
+        when(byteBuf.markReaderIndex()).thenReturn(byteBuf);
+        when(byteBuf.readMediumLE()).thenReturn(50);
+        when(byteBuf.readRetainedSlice(51)).thenReturn(byteBuf);
+        when(context.channel()).thenReturn(new EmbeddedChannel());
+        MySQLPacketCodecEngine codecEngine = new MySQLPacketCodecEngine();
+        ByteBuf out = Unpooled.buffer();
+        codecEngine.encode(context, new FixedLengthPacket(1, MySQLPacket.MAX_PAYLOAD_LENGTH + 10), out);
+        codecEngine.decode(context, byteBuf, new LinkedList<>(), 54);
+        out.clear();
+        codecEngine.encode(context, new FixedLengthPacket(1, 50), out);
+        assertThat(out.readMediumLE(), is(50));
+        assertThat(out.readByte(), is((byte) 1));
+        out.release();
     }
     
     @Test
     public void assertCreatePacketPayload() {
         assertThat(new MySQLPacketCodecEngine().createPacketPayload(byteBuf).getByteBuf(), is(byteBuf));
     }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class FixedLengthPacket implements MySQLPacket {
+        
+        private final int sequenceId;
+        
+        private final int length;
+        
+        @Override
+        public void write(final MySQLPacketPayload payload) {
+            payload.getByteBuf().writeZero(length);
+        }
+    }
 }
@@ -18,11 +18,17 @@
 package org.apache.shardingsphere.shardingproxy.transport.mysql.payload;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.times;
@@ -285,4 +291,45 @@ public final class MySQLPacketPayloadTest {
         new MySQLPacketPayload(byteBuf).close();
         verify(byteBuf).release();
     }
+    
+    @Test
+    public void assertWriteLongAsStringLenenc() {
+        assertThat(writeLongAsStringLenenc(0L), is("0"));
+        assertThat(writeLongAsStringLenenc(-123L), is("-123"));
+        assertThat(writeLongAsStringLenenc(Long.MAX_VALUE), is(Long.toString(Long.MAX_VALUE)));
+        assertThat(writeLongAsStringLenenc(Long.MIN_VALUE), is(Long.toString(Long.MIN_VALUE)));
+    }
+    
+    private String writeLongAsStringLenenc(final long value) {
+        ByteBuf actual = Unpooled.buffer();
+        new MySQLPacketPayload(actual).writeLongAsStringLenenc(value);
+        return new MySQLPacketPayload(actual).readStringLenenc();
+    }
+    
+    @Test
+    public void assertWriteDecimalAsStringLenenc() {
+        assertThat(writeDecimalAsStringLenenc(new BigDecimal("0.05")), is("0.05"));
+        assertThat(writeDecimalAsStringLenenc(new BigDecimal("-12.340")), is("-12.340"));
+        assertThat(writeDecimalAsStringLenenc(new BigDecimal("100")), is("100"));
+        assertThat(writeDecimalAsStringLenenc(new BigDecimal("1E+3")), is("1000"));
+        assertThat(writeDecimalAsStringLenenc(new BigDecimal("12345678901234567890.5")), is("12345678901234567890.5"));
+    }
+    
+    private String writeDecimalAsStringLenenc(final BigDecimal value) {
+        ByteBuf actual = Unpooled.buffer();
+        new MySQLPacketPayload(actual).writeDecimalAsStringLenenc(value);
+        return new MySQLPacketPayload(actual).readStringLenenc();
+    }
+    
+    @Test
+    public void assertWriteDateTimeAsStringLenenc() {
+        ByteBuf actual = Unpooled.buffer();
+        Timestamp timestamp = new Timestamp(System.currentTimeMillis());
+        new MySQLPacketPayload(actual).writeTimestampAsStringLenenc(timestamp);
+        new MySQLPacketPayload(actual).writeDateAsStringLenenc(Date.valueOf("2019-01-02"));
+        new MySQLPacketPayload(actual).writeTimeAsStringLenenc(Time.valueOf("03:04:05"));
+        assertThat(new MySQLPacketPayload(actual).readStringLenenc(), is(timestamp.toString().split("\\.")[0]));
+        assertThat(new MySQLPacketPayload(actual).readStringLenenc(), is("2019-01-02"));
+        assertThat(new MySQLPacketPayload(actual).readStringLenenc(), is("03:04:05"));
+    }
 }